@@ -12,6 +12,8 @@ android {
         versionName = "1.0"
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+        // Benchmarks in src/androidTest only run with -Pbenchmark as well
+        testInstrumentationRunnerArguments["benchmark"] = project.hasProperty("benchmark").toString()
     }
 
     buildTypes {
@@ -27,6 +29,12 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    testOptions {
+        unitTests.all {
+            // Benchmarks in src/test only run with -Pbenchmark
+            it.systemProperty("benchmark", project.hasProperty("benchmark").toString())
+        }
+    }
 }
 
 dependencies {
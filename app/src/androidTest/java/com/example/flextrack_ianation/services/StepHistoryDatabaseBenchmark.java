@@ -0,0 +1,76 @@
+package com.example.flextrack_ianation.services;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Calendar;
+
+import static org.junit.Assert.*;
+
+/**
+ * Times the 90-day chart read of {@link StepHistoryDatabase} against its 50 ms target.
+ *
+ * Skipped unless run with {@code ./gradlew :app:connectedDebugAndroidTest -Pbenchmark}.
+ */
+@RunWith(AndroidJUnit4.class)
+public class StepHistoryDatabaseBenchmark {
+    private static final int DAYS = 90;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 21;
+    private static final long TARGET_MS = 50;
+
+    private StepHistoryDatabase history;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue("Run with -Pbenchmark",
+                Boolean.parseBoolean(InstrumentationRegistry.getArguments().getString("benchmark")));
+        history = new StepHistoryDatabase(InstrumentationRegistry.getInstrumentation().getTargetContext(), null);
+    }
+
+    @After
+    public void tearDown() {
+        if (history != null) {
+            history.close();
+        }
+    }
+
+    @Test
+    public void getDailySteps_ninetyDays() {
+        Calendar day = Calendar.getInstance();
+        long now = day.getTimeInMillis();
+        long firstDay = StepHistoryDatabase.dayKey(now) - (DAYS - 1);
+        day.add(Calendar.DAY_OF_MONTH, -(DAYS - 1));
+        for (int i = 0; i < DAYS; i++) {
+            history.addSteps(StepHistoryDatabase.minuteKey(day.getTimeInMillis()), 100 + i);
+            day.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        history.compact(now);
+
+        int blackhole = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            blackhole += history.getDailySteps(firstDay, DAYS)[0];
+        }
+
+        long[] elapsedNs = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            blackhole += history.getDailySteps(firstDay, DAYS)[0];
+            elapsedNs[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsedNs);
+        double medianMs = elapsedNs[MEASURED_ROUNDS / 2] / 1e6;
+        double maxMs = elapsedNs[MEASURED_ROUNDS - 1] / 1e6;
+
+        System.out.printf("%d-day read: median %.3f ms, max %.3f ms%n", DAYS, medianMs, maxMs);
+        assertTrue(blackhole > 0);
+        assertTrue("90-day read took " + medianMs + " ms", medianMs < TARGET_MS);
+    }
+}
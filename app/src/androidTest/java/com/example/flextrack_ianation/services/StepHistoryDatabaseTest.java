@@ -0,0 +1,88 @@
+package com.example.flextrack_ianation.services;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the step history buckets and chart reads against an in-memory database.
+ */
+@RunWith(AndroidJUnit4.class)
+public class StepHistoryDatabaseTest {
+    // Half-hour offset, so local hours start at half past the UTC hour
+    private static final TimeZone INDIA = TimeZone.getTimeZone("Asia/Kolkata");
+
+    private TimeZone defaultTimeZone;
+    private StepHistoryDatabase history;
+
+    @Before
+    public void setUp() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(INDIA);
+        history = new StepHistoryDatabase(InstrumentationRegistry.getInstrumentation().getTargetContext(), null);
+    }
+
+    @After
+    public void tearDown() {
+        history.close();
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    public void compact_bucketsStepsByLocalHour() {
+        long yesterday = time(2024, Calendar.MARCH, 4, 0, 0);
+        history.addSteps(StepHistoryDatabase.minuteKey(time(2024, Calendar.MARCH, 4, 9, 50)), 10);
+        history.addSteps(StepHistoryDatabase.minuteKey(time(2024, Calendar.MARCH, 4, 10, 5)), 20);
+        history.addSteps(StepHistoryDatabase.minuteKey(time(2024, Calendar.MARCH, 4, 10, 55)), 30);
+        history.addSteps(StepHistoryDatabase.minuteKey(time(2024, Calendar.MARCH, 4, 23, 45)), 40);
+        long now = time(2024, Calendar.MARCH, 5, 8, 0);
+        history.addSteps(StepHistoryDatabase.minuteKey(now), 5);
+
+        history.compact(now);
+        // Compacting again must not count the same minutes twice
+        history.compact(now);
+
+        long day = StepHistoryDatabase.dayKey(yesterday);
+        int[] hours = history.getHourlySteps(day);
+        assertEquals(10, hours[9]);
+        assertEquals(50, hours[10]);
+        assertEquals(40, hours[23]);
+        assertArrayEquals(new int[]{100, 5}, history.getDailySteps(day, 2));
+        assertEquals(5, history.getHourlySteps(day + 1)[8]);
+    }
+
+    @Test
+    public void getDailySteps_readsNinetyDays() {
+        long now = time(2024, Calendar.JUNE, 1, 12, 0);
+        long firstDay = StepHistoryDatabase.dayKey(now) - 89;
+        Calendar day = Calendar.getInstance();
+        day.setTimeInMillis(now);
+        day.add(Calendar.DAY_OF_MONTH, -89);
+        for (int i = 0; i < 90; i++) {
+            history.addSteps(StepHistoryDatabase.minuteKey(day.getTimeInMillis()), 100 + i);
+            day.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        history.compact(now);
+
+        int[] steps = history.getDailySteps(firstDay, 90);
+        for (int i = 0; i < 90; i++) {
+            assertEquals(100 + i, steps[i]);
+        }
+    }
+
+    private static long time(int year, int month, int dayOfMonth, int hour, int minute) {
+        Calendar calendar = Calendar.getInstance(INDIA);
+        calendar.clear();
+        calendar.set(year, month, dayOfMonth, hour, minute);
+        return calendar.getTimeInMillis();
+    }
+}
@@ -14,6 +14,8 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.flextrack_ianation.services.StepCounterService;
+
 import com.google.android.gms.tasks.OnCompleteListener;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.auth.FirebaseAuth;
@@ -167,6 +169,11 @@ public class HealthProfileActivity extends AppCompatActivity {
                     @Override
                     public void onComplete(@NonNull Task<Void> task) {
                         if (task.isSuccessful()) {
+                            // Cache body measurements for personalized step metrics
+                            StepCounterService.updateBodyProfile(HealthProfileActivity.this,
+                                    (Float) healthProfile.get("height"), (Float) healthProfile.get("weight"),
+                                    (String) healthProfile.get("gender"));
+                            
                             Toast.makeText(HealthProfileActivity.this, 
                                     "Profile saved successfully", Toast.LENGTH_SHORT).show();
                             // Navigate to main activity
@@ -16,6 +16,8 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.constraintlayout.widget.ConstraintLayout;
 
+import com.example.flextrack_ianation.services.StepCounterService;
+
 import com.google.android.gms.tasks.OnCompleteListener;
 import com.google.android.gms.tasks.Task;
 import com.google.android.material.progressindicator.CircularProgressIndicator;
@@ -282,6 +284,11 @@ public class HealthQuestionnaireActivity extends AppCompatActivity {
                     @Override
                     public void onComplete(@NonNull Task<Void> task) {
                         if (task.isSuccessful()) {
+                            // Cache body measurements for personalized step metrics
+                            StepCounterService.updateBodyProfile(HealthQuestionnaireActivity.this,
+                                    (Float) userData.get("height"), (Float) userData.get("weight"),
+                                    (String) userData.get("gender"));
+                            
                             Toast.makeText(HealthQuestionnaireActivity.this, 
                                     "Health profile saved successfully", Toast.LENGTH_SHORT).show();
                             
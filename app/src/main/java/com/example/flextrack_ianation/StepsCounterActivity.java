@@ -1,11 +1,9 @@
 package com.example.flextrack_ianation;
 
 import android.Manifest;
-import android.content.BroadcastReceiver;
 import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
 import android.content.ServiceConnection;
 import android.content.SharedPreferences;
 import android.content.pm.PackageManager;
@@ -29,6 +27,7 @@ import androidx.core.app.ActivityCompat;
 import androidx.core.content.ContextCompat;
 
 import com.example.flextrack_ianation.services.StepCounterService;
+import com.example.flextrack_ianation.services.StepUpdatePublisher;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 
@@ -73,6 +72,10 @@ public class StepsCounterActivity extends AppCompatActivity {
             stepCounterService = binder.getService();
             bound = true;
             
+            // We are on screen, ask for low-latency step delivery
+            stepCounterService.setUiVisible(true);
+            stepCounterService.addStepUpdateListener(stepUpdateListener);
+            
             // Get the current hardware step count (should never be reset)
             int totalSteps = stepCounterService.getTotalSteps();
             
@@ -95,18 +98,13 @@ public class StepsCounterActivity extends AppCompatActivity {
         }
     };
     
-    // Broadcast receiver for step updates
-    private BroadcastReceiver stepUpdateReceiver = new BroadcastReceiver() {
+    // Listener for rate-limited step updates from the bound service
+    private final StepUpdatePublisher.Listener stepUpdateListener = new StepUpdatePublisher.Listener() {
         @Override
-        public void onReceive(Context context, Intent intent) {
-            int sessionSteps = intent.getIntExtra("steps", 0);
-            int totalSteps = intent.getIntExtra("totalSteps", 0);
-            float calories = intent.getFloatExtra("calories", 0f);
-            float distance = intent.getFloatExtra("distance", 0f);
-            long time = intent.getLongExtra("time", 0);
-            
+        public void onStepUpdate(int sessionSteps, int totalSteps, int dailySteps, int dailyGoal,
+                                 long elapsedTimeMillis, float calories, float distance) {
             // Update session UI without affecting hardware counter
-            updateSessionUI(sessionSteps, calories, distance, time);
+            updateSessionUI(sessionSteps, calories, distance, elapsedTimeMillis);
             
             // Update hardware counter independently
             updateHardwareStepCount(totalSteps);
@@ -131,9 +129,6 @@ public class StepsCounterActivity extends AppCompatActivity {
                 PERMISSION_REQUEST_ACTIVITY_RECOGNITION);
         }
         
-        // Register broadcast receiver
-        registerReceiver(stepUpdateReceiver, new IntentFilter("STEP_COUNTER_UPDATE"));
-        
         // Initialize with hardware step count immediately - temporarily bind to get step count
         Intent intent = new Intent(this, StepCounterService.class);
         startService(intent);
@@ -190,8 +185,7 @@ public class StepsCounterActivity extends AppCompatActivity {
                     }
                     
                     // Unbind but don't stop service completely
-                    unbindService(serviceConnection);
-                    bound = false;
+                    unbindStepCounterService();
                     
                     // Update button text
                     actionButton.setText("Start");
@@ -225,8 +219,7 @@ public class StepsCounterActivity extends AppCompatActivity {
                             actionButton.setText("Start");
                             
                             // Unbind and stop the service
-                            unbindService(serviceConnection);
-                            bound = false;
+                            unbindStepCounterService();
                             stopService(new Intent(StepsCounterActivity.this, StepCounterService.class));
                         })
                         .setNegativeButton("Cancel", null)
@@ -356,6 +349,15 @@ public class StepsCounterActivity extends AppCompatActivity {
         bindService(intent, serviceConnection, Context.BIND_AUTO_CREATE);
     }
     
+    private void unbindStepCounterService() {
+        // Stop receiving updates before letting go of the service
+        if (stepCounterService != null) {
+            stepCounterService.removeStepUpdateListener(stepUpdateListener);
+        }
+        unbindService(serviceConnection);
+        bound = false;
+    }
+    
     @Override
     protected void onStart() {
         super.onStart();
@@ -368,6 +370,8 @@ public class StepsCounterActivity extends AppCompatActivity {
         super.onResume();
         // Check if service is running and update UI
         if (bound && stepCounterService != null) {
+            stepCounterService.setUiVisible(true);
+            
             // Update hardware counter
             updateHardwareStepCount(stepCounterService.getTotalSteps());
             
@@ -385,8 +389,11 @@ public class StepsCounterActivity extends AppCompatActivity {
     protected void onStop() {
         super.onStop();
         if (bound) {
-            unbindService(serviceConnection);
-            bound = false;
+            // Let the sensors batch for longer while we are in the background
+            if (stepCounterService != null) {
+                stepCounterService.setUiVisible(false);
+            }
+            unbindStepCounterService();
         }
     }
     
@@ -397,19 +404,11 @@ public class StepsCounterActivity extends AppCompatActivity {
         // Unbind from service if bound
         if (bound) {
             try {
-                unbindService(serviceConnection);
-                bound = false;
+                unbindStepCounterService();
             } catch (Exception e) {
                 Log.e(TAG, "Error unbinding service", e);
             }
         }
-        
-        // Unregister receiver
-        try {
-            unregisterReceiver(stepUpdateReceiver);
-        } catch (Exception e) {
-            Log.e(TAG, "Error unregistering receiver", e);
-        }
     }
     
     @Override
@@ -16,6 +16,9 @@ import androidx.cardview.widget.CardView;
 
 import com.example.flextrack_ianation.models.Exercise;
 import com.example.flextrack_ianation.models.Workout;
+import com.example.flextrack_ianation.services.WorkoutPlanRepository;
+import com.example.flextrack_ianation.services.WorkoutSessionStore;
+import com.example.flextrack_ianation.utils.TimeFormats;
 import com.google.android.gms.tasks.OnCompleteListener;
 import com.google.android.gms.tasks.Task;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
@@ -24,10 +27,7 @@ import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 
 public class WorkoutDetailsActivity extends AppCompatActivity {
@@ -41,6 +41,8 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
     private FloatingActionButton startWorkoutButton;
     
     private Workout currentWorkout;
+    // Id of the workout session of this run, the workout itself is shared with other screens
+    private String sessionId;
     private FirebaseAuth mAuth;
     private DatabaseReference mDatabase;
 
@@ -63,8 +65,9 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
         exercisesContainer = findViewById(R.id.exercises_container);
         startWorkoutButton = findViewById(R.id.start_workout_fab);
 
-        // Get workout from intent
-        currentWorkout = (Workout) getIntent().getSerializableExtra("workout");
+        // Get workout referenced by the intent
+        currentWorkout = WorkoutPlanRepository.getInstance().getWorkout(this, getIntent());
+        sessionId = WorkoutPlanRepository.getSessionId(getIntent());
         if (currentWorkout != null) {
             displayWorkoutDetails(currentWorkout);
             displayExercises(currentWorkout);
@@ -72,7 +75,6 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
             // Check if workout was completed
             boolean workoutCompleted = getIntent().getBooleanExtra("workoutCompleted", false);
             if (workoutCompleted) {
-                currentWorkout.setCompleted(true);
                 updateCompletionStatus();
             } else {
                 // Set up click listener for the start workout button
@@ -83,9 +85,22 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
                     }
                 });
             }
+        } else {
+            // Neither the plan nor the kept workout is available
+            returnToWorkoutPlan();
         }
     }
 
+    private void returnToWorkoutPlan() {
+        // The plan screen rebuilds the same plan from the saved profile
+        Toast.makeText(this, "Your workout plan was reloaded, please choose the workout again",
+                Toast.LENGTH_LONG).show();
+        Intent intent = new Intent(this, WorkoutPlanActivity.class);
+        intent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP);
+        startActivity(intent);
+        finish();
+    }
+
     private void displayWorkoutDetails(Workout workout) {
         workoutTitle.setText(workout.getName());
         workoutType.setText(workout.getWorkoutType() + " • " + workout.getFocusArea());
@@ -254,7 +269,8 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
         
         // Start the workout progress activity to guide through exercises
         Intent intent = new Intent(this, WorkoutProgressActivity.class);
-        intent.putExtra("workout", currentWorkout);
+        WorkoutPlanRepository.copyWorkoutReference(getIntent(), intent);
+        WorkoutPlanRepository.putSessionId(intent, sessionId);
         startActivity(intent);
     }
     
@@ -268,8 +284,8 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
         String workoutId = currentWorkout.getWorkoutId();
         if (workoutId == null) {
             workoutId = "workout_" + System.currentTimeMillis(); // Generate an ID if not present
-            currentWorkout.setWorkoutId(workoutId);
         }
+        sessionId = workoutId;
         
         // Create a new workout session in Firestore
         Map<String, Object> sessionData = new HashMap<>();
@@ -294,11 +310,9 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
         }
         sessionData.put("exerciseProgress", exerciseProgress);
         
-        // Save to Firestore
-        FirebaseDatabase.getInstance().getReference()
-            .child("workoutSessions")
-            .child(workoutId)
-            .setValue(sessionData)
+        // Save to Firebase, also under the user's sessions for the progress screens
+        WorkoutSessionStore.createSession(FirebaseDatabase.getInstance().getReference(),
+                userId, workoutId, sessionData)
             .addOnCompleteListener(task -> {
                 if (task.isSuccessful()) {
                     Toast.makeText(WorkoutDetailsActivity.this, 
@@ -335,15 +349,15 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
         }
         
         String userId = currentUser.getUid();
-        String workoutId = currentWorkout.getWorkoutId();
+        String workoutId = sessionId;
         if (workoutId == null) {
             workoutId = "workout_" + System.currentTimeMillis(); // Generate an ID if not present
-            currentWorkout.setWorkoutId(workoutId);
+            sessionId = workoutId;
         }
         
         // Record workout start time
         Map<String, Object> workoutHistoryUpdate = new HashMap<>();
-        String currentDateTime = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault()).format(new Date());
+        String currentDateTime = TimeFormats.timestamp();
         
         workoutHistoryUpdate.put("startTime", currentDateTime);
         workoutHistoryUpdate.put("workoutName", currentWorkout.getName());
@@ -362,7 +376,7 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
         }
         
         String userId = currentUser.getUid();
-        String workoutId = currentWorkout.getWorkoutId();
+        String workoutId = sessionId;
         if (workoutId == null) {
             // This shouldn't happen if recordWorkoutStarted was called first
             workoutId = "workout_" + System.currentTimeMillis();
@@ -370,7 +384,7 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
         
         // Update workout completion status
         Map<String, Object> completionUpdate = new HashMap<>();
-        String currentDateTime = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault()).format(new Date());
+        String currentDateTime = TimeFormats.timestamp();
         
         completionUpdate.put("completed", true);
         completionUpdate.put("completionTime", currentDateTime);
@@ -387,9 +401,6 @@ public class WorkoutDetailsActivity extends AppCompatActivity {
                             Toast.makeText(WorkoutDetailsActivity.this, 
                                     "Great job! Workout completed!", Toast.LENGTH_LONG).show();
                             
-                            // Update local workout object
-                            currentWorkout.setCompleted(true);
-                            
                             // Update UI if needed
                             updateCompletionStatus();
                         } else {
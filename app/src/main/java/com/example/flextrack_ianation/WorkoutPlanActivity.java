@@ -17,7 +17,11 @@ import androidx.cardview.widget.CardView;
 
 import com.example.flextrack_ianation.models.Workout;
 import com.example.flextrack_ianation.models.WorkoutPlan;
+import com.example.flextrack_ianation.services.PlanVariation;
+import com.example.flextrack_ianation.services.StepCounterService;
+import com.example.flextrack_ianation.services.WorkoutPlanCache;
 import com.example.flextrack_ianation.services.WorkoutPlanGenerator;
+import com.example.flextrack_ianation.services.WorkoutPlanRepository;
 import com.google.android.gms.tasks.OnCompleteListener;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.auth.FirebaseAuth;
@@ -142,6 +146,7 @@ public class WorkoutPlanActivity extends AppCompatActivity {
                     public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
                         if (dataSnapshot.exists()) {
                             Map<String, Object> profileData = (Map<String, Object>) dataSnapshot.getValue();
+                            cacheBodyProfile(profileData);
                             generateWorkoutPlan(profileData);
                         } else {
                             Toast.makeText(WorkoutPlanActivity.this, "No health profile found", 
@@ -157,6 +162,25 @@ public class WorkoutPlanActivity extends AppCompatActivity {
                 });
     }
     
+    /**
+     * Keeps the step counter's stride and calorie model in sync with the profile
+     */
+    private void cacheBodyProfile(Map<String, Object> profileData) {
+        if (profileData.get("height") == null || profileData.get("weight") == null) {
+            return;
+        }
+        
+        try {
+            float height = Float.parseFloat(profileData.get("height").toString());
+            float weight = Float.parseFloat(profileData.get("weight").toString());
+            Object gender = profileData.get("gender");
+            StepCounterService.updateBodyProfile(this, height, weight, 
+                    gender != null ? gender.toString() : null);
+        } catch (NumberFormatException e) {
+            Log.e(TAG, "Invalid height or weight in profile", e);
+        }
+    }
+    
     private void generateWorkoutPlan(Map<String, Object> profileData) {
         try {
             // Extract profile data with null checks
@@ -202,6 +226,34 @@ public class WorkoutPlanActivity extends AppCompatActivity {
             Log.d(TAG, "  Workout Time: " + workoutTimePerDay + " minutes");
             Log.d(TAG, "  Days Per Week: " + daysPerWeek);
             
+            // Reuse the active plan if the profile has not changed since it was generated
+            FirebaseUser currentUser = mAuth.getCurrentUser();
+            String userId = currentUser != null ? currentUser.getUid() : null;
+            String profileHash = WorkoutPlanCache.profileHash(bmiCategory, fitnessGoal, fitnessLevel,
+                    focusArea, workoutEnvironment, workoutTimePerDay, daysPerWeek);
+            if (userId != null) {
+                WorkoutPlan cachedPlan = WorkoutPlanCache.getPlan(userId, profileHash);
+                if (cachedPlan != null) {
+                    Log.d(TAG, "Profile unchanged, reusing plan " + cachedPlan.getPlanId());
+                    currentPlan = cachedPlan;
+                    displayWorkoutPlan(currentPlan);
+                    return;
+                }
+            }
+            
+            // The plan id seeds the exercise variation, so pick it before generating. A plan
+            // already saved for this profile keeps its id and comes out the same again.
+            String savedPlanId = userId != null
+                    ? WorkoutPlanCache.getSavedPlanId(this, userId, profileHash) : null;
+            String planId = savedPlanId;
+            if (planId == null && userId != null) {
+                planId = mDatabase.child("users").child(userId).child("workoutPlans").push().getKey();
+            }
+            long variationSeed = planId != null ? PlanVariation.planSeed(userId, planId) : 0;
+            // A rebuilt plan keeps the creation time it was saved with
+            String createdAt = savedPlanId != null
+                    ? WorkoutPlanCache.getSavedCreatedAt(this, userId) : null;
+            
             // Generate workout plan
             try {
                 currentPlan = WorkoutPlanGenerator.generateWorkoutPlan(
@@ -211,23 +263,23 @@ public class WorkoutPlanActivity extends AppCompatActivity {
                         focusArea,
                         workoutEnvironment,
                         workoutTimePerDay,
-                        daysPerWeek
+                        daysPerWeek,
+                        variationSeed,
+                        createdAt
                 );
                 
                 if (currentPlan != null) {
-                    List<Workout> workouts = currentPlan.getWorkouts();
-                    Log.d(TAG, "Workout plan generated. Workouts: " + (workouts != null ? workouts.size() : 0));
+                    currentPlan.setPlanId(planId);
                     
-                    if (workouts == null || workouts.isEmpty()) {
+                    // Only the first week is generated here, later weeks are built when browsed
+                    List<Workout> workouts = currentPlan.getWorkoutsForWeek(1);
+                    Log.d(TAG, "Workout plan generated. Week 1 workouts: " + workouts.size());
+                    
+                    if (workouts.isEmpty()) {
                         Log.e(TAG, "Workout plan has no workouts, generating default workouts");
                         Toast.makeText(this, "No workouts were generated. Adding default workouts.", 
                                 Toast.LENGTH_LONG).show();
                         
-                        // Initialize empty workout list if null
-                        if (workouts == null) {
-                            currentPlan.setWorkouts(new ArrayList<>());
-                        }
-                        
                         // Add at least one default workout so UI isn't empty
                         addDefaultWorkout(currentPlan, fitnessGoal, fitnessLevel, focusArea, workoutEnvironment);
                     }
@@ -235,8 +287,15 @@ public class WorkoutPlanActivity extends AppCompatActivity {
                     // Display plan in UI
                     displayWorkoutPlan(currentPlan);
                     
-                    // Save plan to Firebase
-                    saveWorkoutPlan(currentPlan);
+                    // Save plan to Firebase, unless the same profile was already uploaded.
+                    // A new plan is only reused once its save succeeded, so a failed save
+                    // is tried again the next time the plan is shown.
+                    if (savedPlanId != null) {
+                        Log.d(TAG, "Profile unchanged, keeping saved plan " + savedPlanId);
+                        WorkoutPlanCache.putPlan(userId, profileHash, currentPlan);
+                    } else {
+                        saveWorkoutPlan(currentPlan, profileHash);
+                    }
                 } else {
                     Log.e(TAG, "Failed to generate workout plan - plan is null");
                     Toast.makeText(this, "Failed to generate workout plan, creating a default plan", Toast.LENGTH_SHORT).show();
@@ -275,14 +334,18 @@ public class WorkoutPlanActivity extends AppCompatActivity {
                     environment
             );
             
-            // Add default workouts
-            for (int i = 0; i < Math.min(3, daysPerWeek); i++) {
-                addDefaultWorkout(currentPlan, fitnessGoal, fitnessLevel, focusArea, environment);
+            // Add default workouts, repeated for every week of the plan
+            for (int week = 1; week <= currentPlan.getDurationWeeks(); week++) {
+                for (int i = 0; i < Math.min(3, daysPerWeek); i++) {
+                    addDefaultWorkout(currentPlan, fitnessGoal, fitnessLevel, focusArea, environment);
+                    List<Workout> workouts = currentPlan.getWorkouts();
+                    workouts.get(workouts.size() - 1).setWeekNumber(week);
+                }
             }
             
             // Display and save
             displayWorkoutPlan(currentPlan);
-            saveWorkoutPlan(currentPlan);
+            saveWorkoutPlan(currentPlan, null);
             
         } catch (Exception e) {
             Log.e(TAG, "Error creating default plan", e);
@@ -351,18 +414,18 @@ public class WorkoutPlanActivity extends AppCompatActivity {
             return;
         }
         
-        // Log plan details for debugging
-        List<Workout> workouts = plan.getWorkouts();
+        // Log plan details for debugging, only the first week so later weeks stay unbuilt
+        List<Workout> workouts = plan.getWorkoutsForWeek(1);
         Log.d(TAG, "Displaying workout plan: " + plan.getName());
-        Log.d(TAG, "Plan contains " + (workouts != null ? workouts.size() : 0) + " workouts");
+        Log.d(TAG, "Week 1 contains " + workouts.size() + " workouts");
         Log.d(TAG, "Fitness goal: " + plan.getFitnessGoal() + ", Level: " + plan.getFitnessLevel());
         
-        // Check for null or empty workout list
-        if (workouts == null || workouts.isEmpty()) {
+        // Check for an empty first week
+        if (workouts.isEmpty()) {
             Log.e(TAG, "Plan has no workouts to display");
             Toast.makeText(this, "No workouts found in plan. Generating default workouts.", Toast.LENGTH_LONG).show();
             // Ensure we have at least an empty list
-            if (workouts == null) {
+            if (plan.getWorkouts() == null) {
                 plan.setWorkouts(new ArrayList<>());
             }
         } else {
@@ -379,6 +442,9 @@ public class WorkoutPlanActivity extends AppCompatActivity {
             }
         }
         
+        // Workout screens look workouts up in the repository by plan, week and index
+        WorkoutPlanRepository.getInstance().setActivePlan(plan);
+        
         // Reset to the first week when displaying a new plan
         currentWeek = 1;
         
@@ -406,15 +472,12 @@ public class WorkoutPlanActivity extends AppCompatActivity {
         
         programTypeTextView.setText(programType);
         
-        // Show all workouts from the plan without week separation
-        weekTitleTextView.setText("Your Personalized Workout Plan (" + plan.getWorkoutsPerWeek() + " workouts/week)");
+        // Show one week at a time, each week is generated when it is first shown
+        nextWeekButton.setVisibility(View.VISIBLE);
+        previousWeekButton.setVisibility(View.VISIBLE);
         
-        // Now call updateWorkoutCards to handle displaying workout cards and setting up click listeners
-        updateWorkoutCards();
-        
-        // Hide week navigation buttons
-        nextWeekButton.setVisibility(View.GONE);
-        previousWeekButton.setVisibility(View.GONE);
+        // Updates the title and button states, then calls updateWorkoutCards
+        updateWeekDisplay();
         
         // Hide week indicator
         weekIndicator.setVisibility(View.GONE);
@@ -423,7 +486,13 @@ public class WorkoutPlanActivity extends AppCompatActivity {
         Toast.makeText(this, "Workout plan generated based on your personal health profile", Toast.LENGTH_LONG).show();
     }
     
-    private void saveWorkoutPlan(WorkoutPlan plan) {
+    /**
+     * Uploads the plan and makes it the active plan.
+     *
+     * @param profileHash hash of the profile the plan was generated from, or null for
+     *                    plans that should not be reused
+     */
+    private void saveWorkoutPlan(WorkoutPlan plan, String profileHash) {
         FirebaseUser currentUser = mAuth.getCurrentUser();
         if (currentUser == null) {
             Toast.makeText(this, "User not signed in", Toast.LENGTH_SHORT).show();
@@ -431,22 +500,26 @@ public class WorkoutPlanActivity extends AppCompatActivity {
         }
         
         String userId = currentUser.getUid();
-        String planId = mDatabase.child("users").child(userId).child("workoutPlans").push().getKey();
+        // Generated plans already have their id, it seeds their exercise variation
+        String planId = plan.getPlanId() != null ? plan.getPlanId()
+                : mDatabase.child("users").child(userId).child("workoutPlans").push().getKey();
         
         if (planId != null) {
             plan.setPlanId(planId);
             
-            mDatabase.child("users").child(userId).child("workoutPlans").child(planId)
-                    .setValue(plan)
+            DatabaseReference planRef = mDatabase.child("users").child(userId)
+                    .child("workoutPlans").child(planId);
+            // A lazy plan is uploaded without its workouts, which then follow week by week
+            planRef.setValue(plan.hasWeekSource() ? plan.toMap() : plan)
                     .addOnCompleteListener(new OnCompleteListener<Void>() {
                         @Override
                         public void onComplete(@NonNull Task<Void> task) {
-                            if (task.isSuccessful()) {
-                                Toast.makeText(WorkoutPlanActivity.this, 
-                                        "Workout plan saved successfully", Toast.LENGTH_SHORT).show();
+                            if (!task.isSuccessful()) {
+                                onWorkoutPlanSaved(false, userId, plan, profileHash);
+                            } else if (plan.hasWeekSource()) {
+                                saveWorkoutWeeks(planRef, plan, 1, 0, userId, profileHash);
                             } else {
-                                Toast.makeText(WorkoutPlanActivity.this, 
-                                        "Failed to save workout plan", Toast.LENGTH_SHORT).show();
+                                onWorkoutPlanSaved(true, userId, plan, profileHash);
                             }
                         }
                     });
@@ -458,6 +531,54 @@ public class WorkoutPlanActivity extends AppCompatActivity {
         }
     }
     
+    /**
+     * Uploads the workouts of a lazy plan from {@code week} on, one week after the
+     * other, so only one week is built at a time. Workouts keep their list index
+     * across weeks, so the plan reads back the same as one saved in a single write.
+     */
+    private void saveWorkoutWeeks(DatabaseReference planRef, WorkoutPlan plan, int week, int firstIndex,
+                                  String userId, String profileHash) {
+        if (week > plan.getDurationWeeks()) {
+            onWorkoutPlanSaved(true, userId, plan, profileHash);
+            return;
+        }
+        
+        List<Workout> weekWorkouts = plan.buildWorkoutsForWeek(week);
+        Map<String, Object> weekUpdate = new HashMap<>();
+        for (int i = 0; i < weekWorkouts.size(); i++) {
+            weekUpdate.put("workouts/" + (firstIndex + i), weekWorkouts.get(i));
+        }
+        int nextIndex = firstIndex + weekWorkouts.size();
+        if (weekUpdate.isEmpty()) {
+            saveWorkoutWeeks(planRef, plan, week + 1, nextIndex, userId, profileHash);
+            return;
+        }
+        
+        planRef.updateChildren(weekUpdate)
+                .addOnCompleteListener(new OnCompleteListener<Void>() {
+                    @Override
+                    public void onComplete(@NonNull Task<Void> task) {
+                        if (task.isSuccessful()) {
+                            saveWorkoutWeeks(planRef, plan, week + 1, nextIndex, userId, profileHash);
+                        } else {
+                            onWorkoutPlanSaved(false, userId, plan, profileHash);
+                        }
+                    }
+                });
+    }
+    
+    private void onWorkoutPlanSaved(boolean saved, String userId, WorkoutPlan plan, String profileHash) {
+        if (!saved) {
+            Toast.makeText(this, "Failed to save workout plan", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        if (profileHash != null) {
+            WorkoutPlanCache.markSaved(this, userId, profileHash, plan.getPlanId(), plan.getCreatedAt());
+            WorkoutPlanCache.putPlan(userId, profileHash, plan);
+        }
+        Toast.makeText(this, "Workout plan saved successfully", Toast.LENGTH_SHORT).show();
+    }
+    
     private String getBmiCategory(double bmi) {
         if (bmi < 18.5) {
             return "Underweight";
@@ -515,11 +636,11 @@ public class WorkoutPlanActivity extends AppCompatActivity {
         // Clear the container first
         workoutCardsContainer.removeAllViews();
         
-        // Display all workouts
-        List<Workout> workouts = currentPlan.getWorkouts();
-        Log.d(TAG, "Updating workout cards. Total workouts: " + (workouts != null ? workouts.size() : 0));
+        // Display the workouts of the current week
+        List<Workout> workouts = currentPlan.getWorkoutsForWeek(currentWeek);
+        Log.d(TAG, "Updating workout cards. Week " + currentWeek + " workouts: " + workouts.size());
         
-        if (workouts != null && !workouts.isEmpty()) {
+        if (!workouts.isEmpty()) {
             // Add a header explaining personalization
             TextView personalizationHeader = new TextView(this);
             personalizationHeader.setText("These workouts are customized based on your health profile, fitness level, goals, and selected focus area.");
@@ -547,12 +668,8 @@ public class WorkoutPlanActivity extends AppCompatActivity {
                 TextView exerciseCount = cardView.findViewById(R.id.exercise_count);
                 TextView workoutDuration = cardView.findViewById(R.id.workout_duration);
                 
-                // Determine which day and week this workout is for
-                int workoutWeek = (i / currentPlan.getWorkoutsPerWeek()) + 1;
-                int workoutDay = (i % currentPlan.getWorkoutsPerWeek()) + 1;
-                
                 // Set workout data
-                dayTitle.setText("Week " + workoutWeek + ", Day " + workoutDay);
+                dayTitle.setText("Week " + currentWeek + ", Workout " + (i + 1));
                 
                 // Use safe getters with null checks
                 String type = workout.getWorkoutType() != null ? workout.getWorkoutType() : "General";
@@ -572,13 +689,14 @@ public class WorkoutPlanActivity extends AppCompatActivity {
                 // Set click listener
                 final Workout currentWorkout = workout;
                 final int workoutIndex = i;
+                final int workoutWeek = currentWeek;
                 
                 // Enhanced click handling with logging
                 View.OnClickListener clickListener = new View.OnClickListener() {
                     @Override
                     public void onClick(View v) {
                         Log.d(TAG, "Workout card clicked: " + currentWorkout.getName() + " (index: " + workoutIndex + ")");
-                        showWorkoutDetails(currentWorkout);
+                        showWorkoutDetails(currentWorkout, workoutWeek, workoutIndex);
                     }
                 };
                 
@@ -625,7 +743,7 @@ public class WorkoutPlanActivity extends AppCompatActivity {
         }
     }
 
-    private void showWorkoutDetails(Workout workout) {
+    private void showWorkoutDetails(Workout workout, int weekNumber, int workoutIndex) {
         if (workout == null) {
             Log.e(TAG, "Cannot show details for null workout");
             Toast.makeText(this, "Error: Workout data is missing", Toast.LENGTH_SHORT).show();
@@ -646,9 +764,9 @@ public class WorkoutPlanActivity extends AppCompatActivity {
             workout.setExercises(new ArrayList<>());
         }
         
-        // Create intent and put the workout as extra
+        // Pass only the position of the workout, the details screen reads it from the repository
         Intent intent = new Intent(this, WorkoutDetailsActivity.class);
-        intent.putExtra("workout", workout);
+        WorkoutPlanRepository.putWorkoutReference(intent, currentPlan.getPlanId(), weekNumber, workoutIndex);
         
         try {
             Log.d(TAG, "Starting WorkoutDetailsActivity with workout: " + workout.getName() + 
@@ -17,6 +17,9 @@ import androidx.cardview.widget.CardView;
 
 import com.example.flextrack_ianation.models.Exercise;
 import com.example.flextrack_ianation.models.Workout;
+import com.example.flextrack_ianation.services.WorkoutPlanRepository;
+import com.example.flextrack_ianation.services.WorkoutSessionStore;
+import com.example.flextrack_ianation.utils.TimeFormats;
 import com.google.android.gms.tasks.OnCompleteListener;
 import com.google.android.gms.tasks.Task;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
@@ -25,11 +28,8 @@ import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
 public class WorkoutProgressActivity extends AppCompatActivity {
@@ -51,6 +51,8 @@ public class WorkoutProgressActivity extends AppCompatActivity {
     
     // Workout data
     private Workout currentWorkout;
+    // Id of the workout session started on the details screen
+    private String sessionId;
     private List<Exercise> exercises;
     private int currentExerciseIndex = 0;
     private int totalExercises = 0;
@@ -73,9 +75,15 @@ public class WorkoutProgressActivity extends AppCompatActivity {
         // Initialize UI elements
         initViews();
         
-        // Get workout from intent
-        currentWorkout = (Workout) getIntent().getSerializableExtra("workout");
-        if (currentWorkout != null && currentWorkout.getExercises() != null) {
+        // Get workout referenced by the intent
+        currentWorkout = WorkoutPlanRepository.getInstance().getWorkout(this, getIntent());
+        sessionId = WorkoutPlanRepository.getSessionId(getIntent());
+        if (currentWorkout == null) {
+            // Neither the plan nor the kept workout is available
+            returnToWorkoutPlan();
+            return;
+        }
+        if (currentWorkout.getExercises() != null) {
             exercises = currentWorkout.getExercises();
             totalExercises = exercises.size();
             
@@ -105,6 +113,16 @@ public class WorkoutProgressActivity extends AppCompatActivity {
         setupButtonListeners();
     }
     
+    private void returnToWorkoutPlan() {
+        // The plan screen rebuilds the same plan from the saved profile
+        Toast.makeText(this, "Your workout plan was reloaded, please choose the workout again",
+                Toast.LENGTH_LONG).show();
+        Intent intent = new Intent(this, WorkoutPlanActivity.class);
+        intent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP);
+        startActivity(intent);
+        finish();
+    }
+    
     private void initViews() {
         workoutNameText = findViewById(R.id.workout_name_text);
         exerciseNameText = findViewById(R.id.exercise_name_text);
@@ -215,17 +233,15 @@ public class WorkoutProgressActivity extends AppCompatActivity {
             return;
         }
         
-        String workoutId = currentWorkout.getWorkoutId();
+        String workoutId = sessionId;
         if (workoutId == null) {
             return;
         }
         
         // Update the exercise progress in Firebase
-        mDatabase.child("workoutSessions")
-                .child(workoutId)
-                .child("exerciseProgress")
-                .child(exerciseName)
-                .setValue(completed)
+        Map<String, Object> progressUpdate = new HashMap<>();
+        progressUpdate.put("exerciseProgress/" + exerciseName, completed);
+        WorkoutSessionStore.updateSession(mDatabase, currentUser.getUid(), workoutId, progressUpdate)
                 .addOnCompleteListener(task -> {
                     if (!task.isSuccessful()) {
                         Toast.makeText(WorkoutProgressActivity.this, 
@@ -284,11 +300,11 @@ public class WorkoutProgressActivity extends AppCompatActivity {
         FirebaseUser currentUser = mAuth.getCurrentUser();
         if (currentUser != null && currentWorkout != null) {
             String userId = currentUser.getUid();
-            String workoutId = currentWorkout.getWorkoutId();
+            String workoutId = sessionId;
             
             if (workoutId == null) {
                 workoutId = "workout_" + System.currentTimeMillis();
-                currentWorkout.setWorkoutId(workoutId);
+                sessionId = workoutId;
             }
 
             // First update the workout session
@@ -299,14 +315,12 @@ public class WorkoutProgressActivity extends AppCompatActivity {
     private void updateWorkoutSession(String workoutId, String userId) {
         // Update workout session in Firebase
         Map<String, Object> sessionUpdate = new HashMap<>();
-        sessionUpdate.put("completed", true);
         sessionUpdate.put("caloriesBurned", currentWorkout.getCaloriesBurnEstimate());
             
-        // Update in workoutSessions collection
-        mDatabase.child("workoutSessions")
-                .child(workoutId)
-                .updateChildren(sessionUpdate)
-                .addOnCompleteListener(task -> {
+        // Mark completed in workoutSessions collection and the user's sessions, and add
+        // the workout to the user's daily and monthly progress totals
+        WorkoutSessionStore.completeSession(mDatabase, userId, workoutId, sessionUpdate,
+                task -> {
                     if (task.isSuccessful()) {
                         // Now update the legacy workout history
                         updateLegacyWorkoutHistory(userId, workoutId);
@@ -320,7 +334,7 @@ public class WorkoutProgressActivity extends AppCompatActivity {
     private void updateLegacyWorkoutHistory(String userId, String workoutId) {
         // Update workout completion status in legacy format
         Map<String, Object> completionUpdate = new HashMap<>();
-        String currentDateTime = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault()).format(new Date());
+        String currentDateTime = TimeFormats.timestamp();
         
         completionUpdate.put("completed", true);
         completionUpdate.put("completionTime", currentDateTime);
@@ -351,7 +365,8 @@ public class WorkoutProgressActivity extends AppCompatActivity {
     private void confirmFinishWorkout() {
         // Go back to workout details activity
         Intent intent = new Intent(this, WorkoutDetailsActivity.class);
-        intent.putExtra("workout", currentWorkout);
+        WorkoutPlanRepository.copyWorkoutReference(getIntent(), intent);
+        WorkoutPlanRepository.putSessionId(intent, sessionId);
         intent.putExtra("workoutCompleted", true);
         intent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP);
         startActivity(intent);
@@ -13,11 +13,9 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.flextrack_ianation.R;
 import com.example.flextrack_ianation.models.WorkoutSession;
+import com.example.flextrack_ianation.utils.TimeFormats;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.List;
-import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 public class WorkoutSessionAdapter extends RecyclerView.Adapter<WorkoutSessionAdapter.WorkoutSessionViewHolder> {
@@ -93,8 +91,7 @@ public class WorkoutSessionAdapter extends RecyclerView.Adapter<WorkoutSessionAd
             tvWorkoutType.setText(session.getWorkoutType());
             
             // Set workout time
-            SimpleDateFormat sdf = new SimpleDateFormat("EEEE, h:mm a", Locale.getDefault());
-            String formattedTime = sdf.format(new Date(session.getStartTimeMillis()));
+            String formattedTime = TimeFormats.format(TimeFormats.SESSION_TIME, session.getStartTimeMillis());
             tvWorkoutTime.setText(formattedTime);
             
             // Set workout duration
@@ -1,7 +1,6 @@
 package com.example.flextrack_ianation.fragments;
 
 import android.os.Bundle;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -19,16 +18,11 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.flextrack_ianation.R;
 import com.example.flextrack_ianation.adapters.WorkoutSessionAdapter;
 import com.example.flextrack_ianation.models.WorkoutSession;
+import com.example.flextrack_ianation.services.ProgressRepository;
+import com.example.flextrack_ianation.utils.TimeFormats;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
-import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
-import com.google.firebase.database.DatabaseReference;
-import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.Query;
-import com.google.firebase.database.ValueEventListener;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -55,12 +49,11 @@ public class DailyProgressFragment extends Fragment {
     
     // Date handling
     private Calendar currentDate = Calendar.getInstance();
-    private SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d, yyyy", Locale.getDefault());
-    private SimpleDateFormat dbDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
+    private static final String DATE_FORMAT = "MMMM d, yyyy";
     
     // Firebase
     private FirebaseAuth mAuth;
-    private DatabaseReference mDatabase;
+    private ProgressRepository progressRepository;
     
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
@@ -73,7 +66,7 @@ public class DailyProgressFragment extends Fragment {
         
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        mDatabase = FirebaseDatabase.getInstance().getReference();
+        progressRepository = ProgressRepository.get(requireActivity());
         
         // Initialize UI elements
         initViews(view);
@@ -88,6 +81,13 @@ public class DailyProgressFragment extends Fragment {
         loadDailyData();
     }
     
+    @Override
+    public void onDestroyView() {
+        // Let the repository detach the listeners no other tab needs
+        progressRepository.stopObserving(this);
+        super.onDestroyView();
+    }
+    
     private void initViews(View view) {
         dateDisplay = view.findViewById(R.id.date_display);
         prevDayBtn = view.findViewById(R.id.prev_day_btn);
@@ -157,7 +157,7 @@ public class DailyProgressFragment extends Fragment {
     
     private void updateDateDisplay() {
         Date date = currentDate.getTime();
-        dateDisplay.setText(dateFormat.format(date));
+        dateDisplay.setText(TimeFormats.format(DATE_FORMAT, date));
         
         // Check if this is today
         Calendar today = Calendar.getInstance();
@@ -165,7 +165,7 @@ public class DailyProgressFragment extends Fragment {
                          (today.get(Calendar.DAY_OF_YEAR) == currentDate.get(Calendar.DAY_OF_YEAR));
         
         if (isToday) {
-            dateDisplay.setText("Today, " + dateFormat.format(date));
+            dateDisplay.setText("Today, " + TimeFormats.format(DATE_FORMAT, date));
         }
     }
     
@@ -182,10 +182,22 @@ public class DailyProgressFragment extends Fragment {
         showLoading(true);
         
         String userId = currentUser.getUid();
-        String dateString = dbDateFormat.format(currentDate.getTime());
-        
-        // Load workout sessions only
-        loadWorkoutSessions(userId, dateString);
+        Calendar dayStart = (Calendar) currentDate.clone();
+        dayStart.set(Calendar.HOUR_OF_DAY, 0);
+        dayStart.set(Calendar.MINUTE, 0);
+        dayStart.set(Calendar.SECOND, 0);
+        dayStart.set(Calendar.MILLISECOND, 0);
+        Calendar dayEnd = (Calendar) dayStart.clone();
+        dayEnd.add(Calendar.DAY_OF_MONTH, 1);
+        long startMillis = dayStart.getTimeInMillis();
+        long endMillis = dayEnd.getTimeInMillis();
+        
+        // Replaces the period shown before; the sessions are shared with the other tabs
+        // and the view is updated whenever they change
+        progressRepository.observe(this, userId, startMillis, endMillis, () -> {
+            if (getView() == null) return;
+            showWorkoutSessions(progressRepository.getSessions(startMillis, endMillis));
+        });
     }
     
     private void showLoading(boolean isLoading) {
@@ -194,160 +206,33 @@ public class DailyProgressFragment extends Fragment {
         }
     }
     
-    private void loadWorkoutSessions(String userId, String dateString) {
-        // Clear previous workout data
+    private void showWorkoutSessions(List<WorkoutSession> sessions) {
         workoutSessions.clear();
+        workoutSessions.addAll(sessions);
+        
+        // Collect stats for summary
+        int totalCalories = 0;
+        int totalMinutes = 0;
+        for (WorkoutSession session : workoutSessions) {
+            totalCalories += session.getCaloriesBurned();
+            totalMinutes += session.getDurationMinutes();
+        }
+        updateWorkoutUI(workoutSessions.size(), totalMinutes, totalCalories);
+        
+        // Update adapter
+        workoutAdapter.notifyDataSetChanged();
+        
+        // Show/hide no workouts message
+        if (workoutSessions.isEmpty()) {
+            noWorkoutsMessage.setVisibility(View.VISIBLE);
+            dailyWorkoutsList.setVisibility(View.GONE);
+        } else {
+            noWorkoutsMessage.setVisibility(View.GONE);
+            dailyWorkoutsList.setVisibility(View.VISIBLE);
+        }
         
-        // First try to load from workoutSessions collection (new format)
-        Query newFormatQuery = mDatabase.child("workoutSessions")
-                .orderByChild("userId")
-                .equalTo(userId);
-        
-        newFormatQuery.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                boolean foundSessions = false;
-                int totalCalories = 0;
-                int totalMinutes = 0;
-                int workoutCount = 0;
-                
-                // Filter sessions from the same day
-                Date selectedDate = currentDate.getTime();
-                Calendar sessionCal = Calendar.getInstance();
-                
-                for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                    WorkoutSession session = snapshot.getValue(WorkoutSession.class);
-                    if (session != null) {
-                        // Check if session is from the selected date
-                        sessionCal.setTimeInMillis(session.getStartTimeMillis());
-                        if (isSameDay(sessionCal.getTime(), selectedDate)) {
-                            workoutSessions.add(session);
-                            foundSessions = true;
-                            
-                            // Collect stats for summary
-                            totalCalories += session.getCaloriesBurned();
-                            totalMinutes += session.getDurationMinutes();
-                            workoutCount++;
-                        }
-                    }
-                }
-                
-                if (!foundSessions) {
-                    // If no sessions found in new format, try legacy format
-                    loadLegacyWorkoutSessions(userId, dateString);
-                } else {
-                    // Update UI with the data we found
-                    updateWorkoutUI(workoutCount, totalMinutes, totalCalories);
-                    
-                    // Update adapter
-                    workoutAdapter.notifyDataSetChanged();
-                    
-                    // Show/hide no workouts message
-                    if (workoutSessions.isEmpty()) {
-                        noWorkoutsMessage.setVisibility(View.VISIBLE);
-                        dailyWorkoutsList.setVisibility(View.GONE);
-                    } else {
-                        noWorkoutsMessage.setVisibility(View.GONE);
-                        dailyWorkoutsList.setVisibility(View.VISIBLE);
-                    }
-                    
-                    // Hide loading indicator
-                    showLoading(false);
-                }
-            }
-            
-            @Override
-            public void onCancelled(@NonNull DatabaseError databaseError) {
-                Log.e(TAG, "Error loading workout sessions: " + databaseError.getMessage());
-                // Try legacy format as backup
-                loadLegacyWorkoutSessions(userId, dateString);
-            }
-        });
-    }
-    
-    private void loadLegacyWorkoutSessions(String userId, String dateString) {
-        // Query workouts for this date in legacy format
-        Query query = mDatabase.child("users").child(userId).child("workoutHistory")
-                .orderByChild("date").equalTo(dateString);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                int totalCalories = 0;
-                int totalMinutes = 0;
-                int workoutCount = 0;
-                
-                for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                    // Try to convert legacy data to WorkoutSession
-                    try {
-                        String workoutId = snapshot.getKey();
-                        String workoutName = snapshot.child("name").getValue(String.class);
-                        String workoutType = snapshot.child("type").getValue(String.class);
-                        Long timestamp = snapshot.child("timestamp").getValue(Long.class);
-                        Integer duration = snapshot.child("duration").getValue(Integer.class);
-                        Integer calories = snapshot.child("caloriesBurned").getValue(Integer.class);
-                        Boolean completed = snapshot.child("completed").getValue(Boolean.class);
-                        
-                        // Create WorkoutSession from legacy data
-                        if (workoutId != null && workoutName != null) {
-                            WorkoutSession session = new WorkoutSession(
-                                workoutId,
-                                workoutName,
-                                workoutType != null ? workoutType : "Unknown",
-                                timestamp != null ? timestamp : System.currentTimeMillis(),
-                                duration != null ? duration : 30,
-                                calories != null ? calories : 0,
-                                completed != null ? completed : false,
-                                userId
-                            );
-                            
-                            workoutSessions.add(session);
-                            
-                            // Collect stats for summary
-                            totalCalories += session.getCaloriesBurned();
-                            totalMinutes += session.getDurationMinutes();
-                            workoutCount++;
-                        }
-                    } catch (Exception e) {
-                        Log.e(TAG, "Error parsing legacy workout: " + e.getMessage());
-                    }
-                }
-                
-                // Hide loading indicator
-                showLoading(false);
-                
-                // Update UI
-                updateWorkoutUI(workoutCount, totalMinutes, totalCalories);
-                
-                // Update adapter
-                workoutAdapter.notifyDataSetChanged();
-                
-                // Show/hide no workouts message
-                if (workoutSessions.isEmpty()) {
-                    noWorkoutsMessage.setVisibility(View.VISIBLE);
-                    dailyWorkoutsList.setVisibility(View.GONE);
-                } else {
-                    noWorkoutsMessage.setVisibility(View.GONE);
-                    dailyWorkoutsList.setVisibility(View.VISIBLE);
-                }
-            }
-            
-            @Override
-            public void onCancelled(@NonNull DatabaseError databaseError) {
-                showLoading(false);
-                Log.e(TAG, "Failed to load workout data: " + databaseError.getMessage());
-                Toast.makeText(getContext(), "Failed to load workout data", Toast.LENGTH_SHORT).show();
-            }
-        });
-    }
-    
-    private boolean isSameDay(Date date1, Date date2) {
-        Calendar cal1 = Calendar.getInstance();
-        cal1.setTime(date1);
-        Calendar cal2 = Calendar.getInstance();
-        cal2.setTime(date2);
-        return cal1.get(Calendar.YEAR) == cal2.get(Calendar.YEAR) &&
-               cal1.get(Calendar.DAY_OF_YEAR) == cal2.get(Calendar.DAY_OF_YEAR);
+        // Hide loading indicator
+        showLoading(false);
     }
     
     private void updateWorkoutUI(int workoutCount, int totalMinutes, int totalCalories) {
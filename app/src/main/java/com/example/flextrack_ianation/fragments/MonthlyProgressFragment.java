@@ -1,7 +1,6 @@
 package com.example.flextrack_ianation.fragments;
 
 import android.os.Bundle;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -15,6 +14,9 @@ import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 
 import com.example.flextrack_ianation.R;
+import com.example.flextrack_ianation.services.ProgressRepository;
+import com.example.flextrack_ianation.services.ProgressSummary;
+import com.example.flextrack_ianation.utils.TimeFormats;
 import com.github.mikephil.charting.charts.PieChart;
 import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.data.PieDataSet;
@@ -22,22 +24,13 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
-import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
-import com.google.firebase.database.DatabaseReference;
-import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.ValueEventListener;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 
 public class MonthlyProgressFragment extends Fragment {
     private static final String TAG = "MonthlyProgressFragment";
@@ -55,12 +48,11 @@ public class MonthlyProgressFragment extends Fragment {
     
     // Date handling
     private Calendar currentMonth = Calendar.getInstance();
-    private SimpleDateFormat monthFormat = new SimpleDateFormat("MMMM yyyy", Locale.getDefault());
-    private SimpleDateFormat dbDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
+    private static final String MONTH_FORMAT = "MMMM yyyy";
     
     // Firebase
     private FirebaseAuth mAuth;
-    private DatabaseReference mDatabase;
+    private ProgressRepository progressRepository;
     
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
@@ -73,7 +65,7 @@ public class MonthlyProgressFragment extends Fragment {
         
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        mDatabase = FirebaseDatabase.getInstance().getReference();
+        progressRepository = ProgressRepository.get(requireActivity());
         
         // Initialize UI elements
         initViews(view);
@@ -91,6 +83,13 @@ public class MonthlyProgressFragment extends Fragment {
         loadMonthlyData();
     }
     
+    @Override
+    public void onDestroyView() {
+        // Let the repository detach the listeners no other tab needs
+        progressRepository.stopObserving(this);
+        super.onDestroyView();
+    }
+    
     private void initViews(View view) {
         dateDisplay = view.findViewById(R.id.date_display);
         prevMonthBtn = view.findViewById(R.id.prev_month_btn);
@@ -152,7 +151,7 @@ public class MonthlyProgressFragment extends Fragment {
     
     private void updateDateDisplay() {
         // Format the month and year
-        dateDisplay.setText(monthFormat.format(currentMonth.getTime()));
+        dateDisplay.setText(TimeFormats.format(MONTH_FORMAT, currentMonth.getTime()));
     }
     
     private void setupCharts() {
@@ -193,160 +192,20 @@ public class MonthlyProgressFragment extends Fragment {
         
         String userId = currentUser.getUid();
         
-        // Get dates for the month
-        List<String> monthDates = getMonthDates();
-        
-        // Load workout data for the month only
-        loadMonthlyWorkoutData(userId, monthDates);
-    }
-    
-    private List<String> getMonthDates() {
-        List<String> dates = new ArrayList<>();
-        Calendar date = (Calendar) currentMonth.clone();
-        
-        int daysInMonth = date.getActualMaximum(Calendar.DAY_OF_MONTH);
-        for (int i = 0; i < daysInMonth; i++) {
-            dates.add(dbDateFormat.format(date.getTime()));
-            date.add(Calendar.DAY_OF_MONTH, 1);
-        }
-        
-        return dates;
-    }
-    
-    private void loadMonthlyWorkoutData(String userId, List<String> monthDates) {
-        Map<String, Integer> workoutTypes = new HashMap<>();
-        int totalMinutes = 0;
-        int totalCalories = 0;
-        int activeDays = 0;
-        int workoutCount = 0;
-        
-        // Try first to query from workoutSessions collection (new format)
-        mDatabase.child("workoutSessions")
-            .orderByChild("userId")
-            .equalTo(userId)
-            .addListenerForSingleValueEvent(new ValueEventListener() {
-                @Override
-                public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                    int minutes = 0;
-                    int calories = 0;
-                    int workouts = 0;
-                    Map<String, Integer> types = new HashMap<>();
-                    Set<Integer> activeDay = new HashSet<>();
-                    
-                    // Process current month data from workout sessions
-                    for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                        long startTime = 0;
-                        if (snapshot.child("startTimeMillis").exists()) {
-                            startTime = snapshot.child("startTimeMillis").getValue(Long.class) != null ?
-                                snapshot.child("startTimeMillis").getValue(Long.class) : 0;
-                        }
-                        
-                        if (startTime > 0) {
-                            // Convert to date and check if in current month
-                            Calendar cal = Calendar.getInstance();
-                            cal.setTimeInMillis(startTime);
-                            String dateString = dbDateFormat.format(cal.getTime());
-                            
-                            if (monthDates.contains(dateString)) {
-                                // Get day of month for tracking active days
-                                int day = cal.get(Calendar.DAY_OF_MONTH);
-                                activeDay.add(day);
-                                
-                                Integer duration = snapshot.child("durationMinutes").getValue(Integer.class);
-                                Integer caloriesBurned = snapshot.child("caloriesBurned").getValue(Integer.class);
-                                String workoutType = snapshot.child("workoutType").getValue(String.class);
-                                
-                                if (duration != null) {
-                                    minutes += duration;
-                                }
-                                
-                                if (caloriesBurned != null) {
-                                    calories += caloriesBurned;
-                                }
-                                
-                                workouts++;
-                                
-                                // Update workout type counts
-                                if (workoutType != null) {
-                                    types.put(workoutType, types.getOrDefault(workoutType, 0) + 1);
-                                }
-                            }
-                        }
-                    }
-                    
-                    // If no data found, try legacy format
-                    if (workouts == 0) {
-                        loadLegacyWorkoutData(userId, monthDates);
-                    } else {
-                        // Update UI with the collected data
-                        updateUI(minutes, calories, activeDay.size(), workouts, types);
-                        showLoading(false);
-                    }
-                }
-                
-                @Override
-                public void onCancelled(@NonNull DatabaseError databaseError) {
-                    Log.e(TAG, "Error loading workout sessions: " + databaseError.getMessage());
-                    // Fall back to legacy format
-                    loadLegacyWorkoutData(userId, monthDates);
-                }
-            });
-    }
-    
-    private void loadLegacyWorkoutData(String userId, List<String> monthDates) {
-        mDatabase.child("users").child(userId).child("workoutHistory")
-            .addListenerForSingleValueEvent(new ValueEventListener() {
-                @Override
-                public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                    int minutes = 0;
-                    int calories = 0;
-                    int workouts = 0;
-                    Map<String, Integer> types = new HashMap<>();
-                    Set<String> activeDaySet = new HashSet<>();
-                    
-                    for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                        String date = snapshot.child("date").getValue(String.class);
-                        
-                        if (date != null && monthDates.contains(date)) {
-                            // This date is in the current month
-                            activeDaySet.add(date);
-                            
-                            Integer duration = snapshot.child("durationMinutes").getValue(Integer.class);
-                            Integer caloriesBurned = snapshot.child("caloriesBurned").getValue(Integer.class);
-                            String workoutType = snapshot.child("workoutType").getValue(String.class);
-                            Boolean completed = snapshot.child("completed").getValue(Boolean.class);
-                            
-                            if ((completed == null || completed)) {
-                                if (duration != null) {
-                                    minutes += duration;
-                                }
-                                
-                                if (caloriesBurned != null) {
-                                    calories += caloriesBurned;
-                                }
-                                
-                                workouts++;
-                                
-                                // Update workout type counts
-                                if (workoutType != null) {
-                                    types.put(workoutType, types.getOrDefault(workoutType, 0) + 1);
-                                }
-                            }
-                        }
-                    }
-                    
-                    // Update UI with the collected data
-                    updateUI(minutes, calories, activeDaySet.size(), workouts, types);
-                    showLoading(false);
-                }
-                
-                @Override
-                public void onCancelled(@NonNull DatabaseError databaseError) {
-                    Log.e(TAG, "Failed to load workout data: " + databaseError.getMessage());
-                    Toast.makeText(getContext(), "Failed to load workout data", Toast.LENGTH_SHORT).show();
-                    showLoading(false);
-                }
-            });
+        Calendar monthEnd = (Calendar) currentMonth.clone();
+        monthEnd.add(Calendar.MONTH, 1);
+        long startMillis = currentMonth.getTimeInMillis();
+        long endMillis = monthEnd.getTimeInMillis();
+        
+        // Replaces the period shown before; the totals come from the period's rollup
+        // documents and the view is updated whenever they change
+        progressRepository.observeSummary(this, userId, startMillis, endMillis, () -> {
+            if (getView() == null) return;
+            ProgressSummary month = progressRepository.getSummary(startMillis, endMillis);
+            updateUI(month.getMinutes(), month.getCalories(), month.getMinutesByDay().size(),
+                    month.getWorkouts(), month.getWorkoutsByType());
+            showLoading(false);
+        });
     }
     
     private void updateUI(int totalMinutes, int totalCalories, int activeDays, int workoutCount, Map<String, Integer> workoutTypes) {
@@ -362,7 +221,7 @@ public class MonthlyProgressFragment extends Fragment {
     
     private Date parseDate(String dateString) {
         try {
-            return dbDateFormat.parse(dateString);
+            return TimeFormats.parse(TimeFormats.DAY, dateString);
         } catch (Exception e) {
             return new Date();
         }
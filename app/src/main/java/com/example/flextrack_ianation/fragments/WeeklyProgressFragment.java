@@ -1,7 +1,6 @@
 package com.example.flextrack_ianation.fragments;
 
 import android.os.Bundle;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -15,6 +14,9 @@ import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 
 import com.example.flextrack_ianation.R;
+import com.example.flextrack_ianation.services.ProgressRepository;
+import com.example.flextrack_ianation.services.ProgressSummary;
+import com.example.flextrack_ianation.utils.TimeFormats;
 import com.github.mikephil.charting.charts.BarChart;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.BarData;
@@ -23,19 +25,12 @@ import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.formatter.IndexAxisValueFormatter;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
-import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
-import com.google.firebase.database.DatabaseReference;
-import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.Query;
-import com.google.firebase.database.ValueEventListener;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 public class WeeklyProgressFragment extends Fragment {
     private static final String TAG = "WeeklyProgressFragment";
@@ -53,14 +48,13 @@ public class WeeklyProgressFragment extends Fragment {
     
     // Date handling
     private Calendar currentWeekStart = Calendar.getInstance();
-    private SimpleDateFormat weekFormat = new SimpleDateFormat("MMM d - ", Locale.getDefault());
-    private SimpleDateFormat weekEndFormat = new SimpleDateFormat("MMM d, yyyy", Locale.getDefault());
-    private SimpleDateFormat dbDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
+    private static final String WEEK_START_FORMAT = "MMM d - ";
+    private static final String WEEK_END_FORMAT = "MMM d, yyyy";
     private String[] dayLabels = new String[]{"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
     
     // Firebase
     private FirebaseAuth mAuth;
-    private DatabaseReference mDatabase;
+    private ProgressRepository progressRepository;
     
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
@@ -73,7 +67,7 @@ public class WeeklyProgressFragment extends Fragment {
         
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        mDatabase = FirebaseDatabase.getInstance().getReference();
+        progressRepository = ProgressRepository.get(requireActivity());
         
         // Initialize UI elements
         initViews(view);
@@ -91,6 +85,13 @@ public class WeeklyProgressFragment extends Fragment {
         loadWeeklyData();
     }
     
+    @Override
+    public void onDestroyView() {
+        // Let the repository detach the listeners no other tab needs
+        progressRepository.stopObserving(this);
+        super.onDestroyView();
+    }
+    
     private void initViews(View view) {
         dateDisplay = view.findViewById(R.id.date_display);
         prevWeekBtn = view.findViewById(R.id.prev_week_btn);
@@ -156,8 +157,8 @@ public class WeeklyProgressFragment extends Fragment {
         weekEnd.add(Calendar.DAY_OF_WEEK, 6);
         
         // Format the date range
-        String dateRange = weekFormat.format(currentWeekStart.getTime()) + 
-                         weekEndFormat.format(weekEnd.getTime());
+        String dateRange = TimeFormats.format(WEEK_START_FORMAT, currentWeekStart.getTime()) + 
+                         TimeFormats.format(WEEK_END_FORMAT, weekEnd.getTime());
         dateDisplay.setText(dateRange);
     }
     
@@ -223,138 +224,37 @@ public class WeeklyProgressFragment extends Fragment {
     }
     
     private void loadWeeklyWorkoutData(String userId) {
-        // Create list of dates for the current week
-        List<String> weekDates = getWeekDates();
-        
-        // Initialize data counters
-        final int[] dailyMinutes = new int[7];
-        final int[] totalMinutes = {0};
-        final int[] totalCalories = {0};
-        final int[] activeDays = {0};
-        final int[] workoutCount = {0};
-        final boolean[] dayHasWorkout = new boolean[7];
+        Calendar weekEnd = (Calendar) currentWeekStart.clone();
+        weekEnd.add(Calendar.DAY_OF_MONTH, 7);
+        long startMillis = currentWeekStart.getTimeInMillis();
+        long endMillis = weekEnd.getTimeInMillis();
         
-        // Try first to query from workoutSessions collection (new format)
-        mDatabase.child("workoutSessions")
-            .orderByChild("userId")
-            .equalTo(userId)
-            .addListenerForSingleValueEvent(new ValueEventListener() {
-                @Override
-                public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                    boolean foundWorkouts = false;
-                    
-                    for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                        long startTime = 0;
-                        if (snapshot.child("startTimeMillis").exists()) {
-                            startTime = snapshot.child("startTimeMillis").getValue(Long.class) != null ?
-                                snapshot.child("startTimeMillis").getValue(Long.class) : 0;
-                        }
-                        
-                        if (startTime > 0) {
-                            // Convert time to date and check if in current week
-                            Calendar cal = Calendar.getInstance();
-                            cal.setTimeInMillis(startTime);
-                            String dateString = dbDateFormat.format(cal.getTime());
-                            
-                            if (weekDates.contains(dateString)) {
-                                foundWorkouts = true;
-                                int dayIndex = weekDates.indexOf(dateString);
-                                
-                                Integer durationMinutes = snapshot.child("durationMinutes").getValue(Integer.class);
-                                Integer caloriesBurned = snapshot.child("caloriesBurned").getValue(Integer.class);
-                                Boolean completed = snapshot.child("completed").getValue(Boolean.class);
-                                
-                                if ((completed == null || completed) && durationMinutes != null) {
-                                    dailyMinutes[dayIndex] += durationMinutes;
-                                    totalMinutes[0] += durationMinutes;
-                                    dayHasWorkout[dayIndex] = true;
-                                    workoutCount[0]++;
-                                    
-                                    if (caloriesBurned != null) {
-                                        totalCalories[0] += caloriesBurned;
-                                    }
-                                }
-                            }
-                        }
-                    }
-                    
-                    if (!foundWorkouts) {
-                        // If no workouts found in new format, try legacy format
-                        loadLegacyWorkoutData(userId, weekDates, dailyMinutes, totalMinutes, 
-                                             totalCalories, activeDays, workoutCount, dayHasWorkout);
-                    } else {
-                        // Count active days
-                        for (boolean active : dayHasWorkout) {
-                            if (active) activeDays[0]++;
-                        }
-                        
-                        // Update UI
-                        updateWorkoutMinutesChart(dailyMinutes);
-                        updateWeeklyStatsUI(totalMinutes[0], totalCalories[0], activeDays[0], workoutCount[0]);
-                        showLoading(false);
-                    }
-                }
-                
-                @Override
-                public void onCancelled(@NonNull DatabaseError databaseError) {
-                    Log.e(TAG, "Failed to load workout sessions: " + databaseError.getMessage());
-                    // Fall back to legacy format
-                    loadLegacyWorkoutData(userId, weekDates, dailyMinutes, totalMinutes, 
-                                         totalCalories, activeDays, workoutCount, dayHasWorkout);
-                }
-            });
+        // Replaces the period shown before; the totals come from the period's rollup
+        // documents and the view is updated whenever they change
+        progressRepository.observeSummary(this, userId, startMillis, endMillis, () -> {
+            if (getView() == null) return;
+            showWeeklyWorkoutData(progressRepository.getSummary(startMillis, endMillis));
+        });
     }
     
-    private void loadLegacyWorkoutData(String userId, List<String> weekDates, 
-                                      int[] dailyMinutes, int[] totalMinutes,
-                                      int[] totalCalories, int[] activeDays, 
-                                      int[] workoutCount, boolean[] dayHasWorkout) {
-        // Query workouts for the week using the legacy format
-        DatabaseReference workoutRef = mDatabase.child("users").child(userId).child("workoutHistory");
+    private void showWeeklyWorkoutData(ProgressSummary week) {
+        // Create list of dates for the current week
+        List<String> weekDates = getWeekDates();
         
-        workoutRef.addListenerForSingleValueEvent(new ValueEventListener() {
-            @Override
-            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                    String date = snapshot.child("date").getValue(String.class);
-                    if (date != null && weekDates.contains(date)) {
-                        int dayIndex = weekDates.indexOf(date);
-                        
-                        Integer durationMinutes = snapshot.child("durationMinutes").getValue(Integer.class);
-                        Integer caloriesBurned = snapshot.child("caloriesBurned").getValue(Integer.class);
-                        Boolean completed = snapshot.child("completed").getValue(Boolean.class);
-                        
-                        if (completed != null && completed && durationMinutes != null) {
-                            dailyMinutes[dayIndex] += durationMinutes;
-                            totalMinutes[0] += durationMinutes;
-                            dayHasWorkout[dayIndex] = true;
-                            workoutCount[0]++;
-                            
-                            if (caloriesBurned != null) {
-                                totalCalories[0] += caloriesBurned;
-                            }
-                        }
-                    }
-                }
-                
-                // Count active days
-                for (boolean active : dayHasWorkout) {
-                    if (active) activeDays[0]++;
-                }
-                
-                // Update UI
-                updateWorkoutMinutesChart(dailyMinutes);
-                updateWeeklyStatsUI(totalMinutes[0], totalCalories[0], activeDays[0], workoutCount[0]);
-                showLoading(false);
+        int[] dailyMinutes = new int[7];
+        int activeDays = 0;
+        for (Map.Entry<String, Integer> day : week.getMinutesByDay().entrySet()) {
+            int dayIndex = weekDates.indexOf(day.getKey());
+            if (dayIndex >= 0) {
+                dailyMinutes[dayIndex] += day.getValue();
+                activeDays++;
             }
-            
-            @Override
-            public void onCancelled(@NonNull DatabaseError databaseError) {
-                Log.e(TAG, "Failed to load workout data: " + databaseError.getMessage());
-                Toast.makeText(getContext(), "Failed to load workout data", Toast.LENGTH_SHORT).show();
-                showLoading(false);
-            }
-        });
+        }
+        
+        // Update UI
+        updateWorkoutMinutesChart(dailyMinutes);
+        updateWeeklyStatsUI(week.getMinutes(), week.getCalories(), activeDays, week.getWorkouts());
+        showLoading(false);
     }
     
     private List<String> getWeekDates() {
@@ -362,7 +262,7 @@ public class WeeklyProgressFragment extends Fragment {
         Calendar date = (Calendar) currentWeekStart.clone();
         
         for (int i = 0; i < 7; i++) {
-            dates.add(dbDateFormat.format(date.getTime()));
+            dates.add(TimeFormats.format(TimeFormats.DAY, date.getTime()));
             date.add(Calendar.DAY_OF_MONTH, 1);
         }
         
@@ -0,0 +1,54 @@
+package com.example.flextrack_ianation.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BMI category a plan is generated for. Labels match the values stored in Firebase.
+ */
+public enum BmiCategory {
+    UNDERWEIGHT("Underweight", 6),
+    NORMAL_WEIGHT("Normal weight", 4),
+    OVERWEIGHT("Overweight", 8),
+    OBESE("Obese", 12),
+    OTHER(null, 4);
+
+    private static final Map<String, BmiCategory> BY_LABEL = new HashMap<>();
+
+    static {
+        for (BmiCategory category : values()) {
+            if (category.label != null) {
+                BY_LABEL.put(category.label, category);
+            }
+        }
+    }
+
+    private final String label;
+    private final int basePlanWeeks;
+
+    BmiCategory(String label, int basePlanWeeks) {
+        this.label = label;
+        this.basePlanWeeks = basePlanWeeks;
+    }
+
+    /**
+     * Returns the category for a label, or {@link #OTHER} if it is not known.
+     */
+    public static BmiCategory fromLabel(String label) {
+        BmiCategory category = label != null ? BY_LABEL.get(label) : null;
+        return category != null ? category : OTHER;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getBasePlanWeeks() {
+        return basePlanWeeks;
+    }
+
+    // Weight loss plans are limited to 4 workouts per week
+    public boolean limitsWorkoutsPerWeek() {
+        return this == OVERWEIGHT || this == OBESE;
+    }
+}
@@ -1,87 +1,87 @@
 package com.example.flextrack_ianation.models;
 
+import com.google.firebase.database.Exclude;
+
 import java.io.Serializable;
 
 /**
  * Model class representing an individual exercise in a workout.
+ *
+ * The description of the exercise lives in a shared {@link ExerciseTemplate}; this
+ * class only adds the per-workout values (sets, reps, rest and progression factor).
+ * Setters for template fields copy the template first, so editing one exercise
+ * never changes another workout.
  */
 public class Exercise implements Serializable {
-    private String name;
-    private String description;
-    private String muscleGroup;
-    private String imageUrl;
+    private ExerciseTemplate template;
     private int sets;
     private int repsPerSet;
     private int restBetweenSets; // in seconds
-    private String equipmentNeeded;
-    private String difficultyLevel; // "Beginner", "Intermediate", "Advanced"
-    private String exerciseType; // "Strength", "Cardio", "Flexibility", etc.
-    private String videoUrl; // Optional URL for demonstration video
+    private float progressionFactor = 1f; // Intensity of the plan week this exercise belongs to
 
     // Empty constructor required for Firebase
     public Exercise() {
+        template = ExerciseTemplate.EMPTY;
     }
 
-    public Exercise(String name, String description, String muscleGroup, int sets, int repsPerSet, 
-                   int restBetweenSets, String equipmentNeeded, String difficultyLevel, 
-                   String exerciseType) {
-        this.name = name;
-        this.description = description;
-        this.muscleGroup = muscleGroup;
+    public Exercise(ExerciseTemplate template, int sets, int repsPerSet, int restBetweenSets) {
+        this.template = template;
         this.sets = sets;
         this.repsPerSet = repsPerSet;
         this.restBetweenSets = restBetweenSets;
-        this.equipmentNeeded = equipmentNeeded;
-        this.difficultyLevel = difficultyLevel;
-        this.exerciseType = exerciseType;
     }
 
-    public Exercise(String name, String description, String muscleGroup, int sets, int repsPerSet, 
-                   int restBetweenSets, String equipmentNeeded, String difficultyLevel, 
+    public Exercise(String name, String description, String muscleGroup, int sets, int repsPerSet,
+                   int restBetweenSets, String equipmentNeeded, String difficultyLevel,
+                   String exerciseType) {
+        this(name, description, muscleGroup, sets, repsPerSet, restBetweenSets,
+                equipmentNeeded, difficultyLevel, exerciseType, null);
+    }
+
+    public Exercise(String name, String description, String muscleGroup, int sets, int repsPerSet,
+                   int restBetweenSets, String equipmentNeeded, String difficultyLevel,
                    String exerciseType, String videoUrl) {
-        this.name = name;
-        this.description = description;
-        this.muscleGroup = muscleGroup;
-        this.sets = sets;
-        this.repsPerSet = repsPerSet;
-        this.restBetweenSets = restBetweenSets;
-        this.equipmentNeeded = equipmentNeeded;
-        this.difficultyLevel = difficultyLevel;
-        this.exerciseType = exerciseType;
-        this.videoUrl = videoUrl;
+        this(new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, null, videoUrl), sets, repsPerSet, restBetweenSets);
+    }
+
+    // Shared template, not stored separately in Firebase
+    @Exclude
+    public ExerciseTemplate getTemplate() {
+        return template;
     }
 
     // Getters and setters
     public String getName() {
-        return name;
+        return template.getName();
     }
 
     public void setName(String name) {
-        this.name = name;
+        template = template.withName(name);
     }
 
     public String getDescription() {
-        return description;
+        return template.getDescription();
     }
 
     public void setDescription(String description) {
-        this.description = description;
+        template = template.withDescription(description);
     }
 
     public String getMuscleGroup() {
-        return muscleGroup;
+        return template.getMuscleGroup();
     }
 
     public void setMuscleGroup(String muscleGroup) {
-        this.muscleGroup = muscleGroup;
+        template = template.withMuscleGroup(muscleGroup);
     }
 
     public String getImageUrl() {
-        return imageUrl;
+        return template.getImageUrl();
     }
 
     public void setImageUrl(String imageUrl) {
-        this.imageUrl = imageUrl;
+        template = template.withImageUrl(imageUrl);
     }
 
     public int getSets() {
@@ -108,35 +108,43 @@ public class Exercise implements Serializable {
         this.restBetweenSets = restBetweenSets;
     }
 
+    public float getProgressionFactor() {
+        return progressionFactor;
+    }
+
+    public void setProgressionFactor(float progressionFactor) {
+        this.progressionFactor = progressionFactor;
+    }
+
     public String getEquipmentNeeded() {
-        return equipmentNeeded;
+        return template.getEquipmentNeeded();
     }
 
     public void setEquipmentNeeded(String equipmentNeeded) {
-        this.equipmentNeeded = equipmentNeeded;
+        template = template.withEquipmentNeeded(equipmentNeeded);
     }
 
     public String getDifficultyLevel() {
-        return difficultyLevel;
+        return template.getDifficultyLevel();
     }
 
     public void setDifficultyLevel(String difficultyLevel) {
-        this.difficultyLevel = difficultyLevel;
+        template = template.withDifficultyLevel(difficultyLevel);
     }
 
     public String getExerciseType() {
-        return exerciseType;
+        return template.getExerciseType();
     }
 
     public void setExerciseType(String exerciseType) {
-        this.exerciseType = exerciseType;
+        template = template.withExerciseType(exerciseType);
     }
 
     public String getVideoUrl() {
-        return videoUrl;
+        return template.getVideoUrl();
     }
 
     public void setVideoUrl(String videoUrl) {
-        this.videoUrl = videoUrl;
+        template = template.withVideoUrl(videoUrl);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
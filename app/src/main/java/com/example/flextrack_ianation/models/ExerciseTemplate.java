@@ -0,0 +1,110 @@
+package com.example.flextrack_ianation.models;
+
+import java.io.Serializable;
+
+/**
+ * Immutable description of an exercise (what it is, not how much of it to do).
+ * Generated workouts share one template per exercise and only keep their own
+ * sets, reps and rest in {@link Exercise}, so a plan holds references instead of
+ * copies, and both Java serialization and {@link PlanCodec} write each template only
+ * once per plan.
+ */
+public final class ExerciseTemplate implements Serializable {
+    public static final ExerciseTemplate EMPTY =
+            new ExerciseTemplate(null, null, null, null, null, null, null, null);
+
+    private final String name;
+    private final String description;
+    private final String muscleGroup;
+    private final String equipmentNeeded;
+    private final String difficultyLevel; // "Beginner", "Intermediate", "Advanced"
+    private final String exerciseType; // "Strength", "Cardio", "Flexibility", etc.
+    private final String imageUrl;
+    private final String videoUrl;
+
+    public ExerciseTemplate(String name, String description, String muscleGroup,
+                            String equipmentNeeded, String difficultyLevel, String exerciseType,
+                            String imageUrl, String videoUrl) {
+        this.name = name;
+        this.description = description;
+        this.muscleGroup = muscleGroup;
+        this.equipmentNeeded = equipmentNeeded;
+        this.difficultyLevel = difficultyLevel;
+        this.exerciseType = exerciseType;
+        this.imageUrl = imageUrl;
+        this.videoUrl = videoUrl;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getMuscleGroup() {
+        return muscleGroup;
+    }
+
+    public String getEquipmentNeeded() {
+        return equipmentNeeded;
+    }
+
+    public String getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    public String getExerciseType() {
+        return exerciseType;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public String getVideoUrl() {
+        return videoUrl;
+    }
+
+    // Copies with one field changed, used when a single exercise is edited
+    public ExerciseTemplate withName(String name) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+
+    public ExerciseTemplate withDescription(String description) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+
+    public ExerciseTemplate withMuscleGroup(String muscleGroup) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+
+    public ExerciseTemplate withEquipmentNeeded(String equipmentNeeded) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+
+    public ExerciseTemplate withDifficultyLevel(String difficultyLevel) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+
+    public ExerciseTemplate withExerciseType(String exerciseType) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+
+    public ExerciseTemplate withImageUrl(String imageUrl) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+
+    public ExerciseTemplate withVideoUrl(String videoUrl) {
+        return new ExerciseTemplate(name, description, muscleGroup, equipmentNeeded,
+                difficultyLevel, exerciseType, imageUrl, videoUrl);
+    }
+}
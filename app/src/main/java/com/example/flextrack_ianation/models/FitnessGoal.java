@@ -0,0 +1,59 @@
+package com.example.flextrack_ianation.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fitness goal from the health profile. The profile form and older data use
+ * different labels for the same goal, so each known label has its own constant;
+ * the {@code is...} methods group them.
+ */
+public enum FitnessGoal {
+    LOSE_WEIGHT("Lose Weight"),
+    WEIGHT_LOSS("Weight Loss"),
+    BUILD_MUSCLE("Build Muscle"),
+    MUSCLE_GAIN("Muscle Gain"),
+    IMPROVE_ENDURANCE("Improve Endurance"),
+    ENDURANCE("Endurance"),
+    OTHER(null);
+
+    private static final Map<String, FitnessGoal> BY_LABEL = new HashMap<>();
+
+    static {
+        for (FitnessGoal goal : values()) {
+            if (goal.label != null) {
+                BY_LABEL.put(goal.label, goal);
+            }
+        }
+    }
+
+    private final String label;
+
+    FitnessGoal(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the goal for a label, or {@link #OTHER} if it is not known.
+     */
+    public static FitnessGoal fromLabel(String label) {
+        FitnessGoal goal = label != null ? BY_LABEL.get(label) : null;
+        return goal != null ? goal : OTHER;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isWeightLoss() {
+        return this == LOSE_WEIGHT || this == WEIGHT_LOSS;
+    }
+
+    public boolean isMuscleGain() {
+        return this == BUILD_MUSCLE || this == MUSCLE_GAIN;
+    }
+
+    public boolean isEndurance() {
+        return this == IMPROVE_ENDURANCE || this == ENDURANCE;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.flextrack_ianation.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fitness level from the health profile, with the values the plan generator
+ * derives from it.
+ */
+public enum FitnessLevel {
+    BEGINNER("Beginner", 3, 0.7f, 3, 0.8),
+    INTERMEDIATE("Intermediate", 4, 1.0f, 4, 1.0),
+    ADVANCED("Advanced", 5, 1.3f, 5, 1.2),
+    // Unknown levels (e.g. "Athletic") get no caps and no recovery days
+    OTHER(null, Integer.MAX_VALUE, 1.0f, 0, 1.0);
+
+    private static final Map<String, FitnessLevel> BY_LABEL = new HashMap<>();
+
+    static {
+        for (FitnessLevel level : values()) {
+            if (level.label != null) {
+                BY_LABEL.put(level.label, level);
+            }
+        }
+    }
+
+    private final String label;
+    private final int maxWorkoutsPerWeek;
+    private final float progressionRate;
+    private final int recoveryInterval; // every n-th workout is active recovery, 0 for none
+    private final double calorieMultiplier;
+
+    FitnessLevel(String label, int maxWorkoutsPerWeek, float progressionRate,
+                 int recoveryInterval, double calorieMultiplier) {
+        this.label = label;
+        this.maxWorkoutsPerWeek = maxWorkoutsPerWeek;
+        this.progressionRate = progressionRate;
+        this.recoveryInterval = recoveryInterval;
+        this.calorieMultiplier = calorieMultiplier;
+    }
+
+    /**
+     * Returns the level for a label, or {@link #OTHER} if it is not known.
+     */
+    public static FitnessLevel fromLabel(String label) {
+        FitnessLevel level = label != null ? BY_LABEL.get(label) : null;
+        return level != null ? level : OTHER;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getMaxWorkoutsPerWeek() {
+        return maxWorkoutsPerWeek;
+    }
+
+    public float getProgressionRate() {
+        return progressionRate;
+    }
+
+    public boolean isRecoveryDay(int day) {
+        return recoveryInterval > 0 && day % recoveryInterval == 0;
+    }
+
+    public double getCalorieMultiplier() {
+        return calorieMultiplier;
+    }
+}
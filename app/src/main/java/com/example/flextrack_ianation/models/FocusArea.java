@@ -0,0 +1,43 @@
+package com.example.flextrack_ianation.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Body area a plan focuses on.
+ */
+public enum FocusArea {
+    FULL_BODY("Full Body"),
+    UPPER_BODY("Upper Body"),
+    LOWER_BODY("Lower Body"),
+    CORE("Core"),
+    OTHER(null);
+
+    private static final Map<String, FocusArea> BY_LABEL = new HashMap<>();
+
+    static {
+        for (FocusArea area : values()) {
+            if (area.label != null) {
+                BY_LABEL.put(area.label, area);
+            }
+        }
+    }
+
+    private final String label;
+
+    FocusArea(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the focus area for a label, or {@link #OTHER} if it is not known.
+     */
+    public static FocusArea fromLabel(String label) {
+        FocusArea area = label != null ? BY_LABEL.get(label) : null;
+        return area != null ? area : OTHER;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,434 @@
+package com.example.flextrack_ianation.models;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written binary form of the workout models, used for storing them on the
+ * device instead of Java serialization.
+ *
+ * Every encoded value starts with a magic number, the format version and the kind
+ * of model. Integers are written as varints, and strings and exercise templates are
+ * written once per encoded value and referenced by index afterwards, so the labels
+ * repeated across a plan cost a byte or two each.
+ */
+public final class PlanCodec {
+    public static final int VERSION = 2;
+
+    private static final int MAGIC = 0x46545043; // "FTPC"
+
+    private static final int KIND_EXERCISE = 1;
+    private static final int KIND_WORKOUT = 2;
+    private static final int KIND_PLAN = 3;
+    private static final int KIND_SESSION = 4;
+
+    // String and template references: 0 is null, 1 is a new value, n + 2 is entry n
+    private static final int REF_NULL = 0;
+    private static final int REF_NEW = 1;
+
+    // Lists are presized from their encoded count up to this many entries, so a corrupt
+    // count runs out of input instead of allocating a huge array
+    private static final int MAX_PRESIZE = 1024;
+
+    private PlanCodec() {
+    }
+
+    public static byte[] encode(Exercise exercise) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            Writer writer = new Writer(new DataOutputStream(bytes), KIND_EXERCISE);
+            writer.writeExercise(exercise);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode exercise", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] encode(Workout workout) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            Writer writer = new Writer(new DataOutputStream(bytes), KIND_WORKOUT);
+            writer.writeWorkout(workout);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode workout", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] encode(WorkoutPlan plan) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writePlan(new DataOutputStream(bytes), plan);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode plan", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] encode(WorkoutSession session) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            Writer writer = new Writer(new DataOutputStream(bytes), KIND_SESSION);
+            writer.writeSession(session);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode session", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a plan, e.g. to a file. Lazy plans are written with all their weeks.
+     */
+    public static void writePlan(DataOutput out, WorkoutPlan plan) throws IOException {
+        new Writer(out, KIND_PLAN).writePlan(plan);
+    }
+
+    public static Exercise decodeExercise(byte[] data) throws IOException {
+        return new Reader(input(data), KIND_EXERCISE).readExercise();
+    }
+
+    public static Workout decodeWorkout(byte[] data) throws IOException {
+        return new Reader(input(data), KIND_WORKOUT).readWorkout();
+    }
+
+    public static WorkoutPlan decodePlan(byte[] data) throws IOException {
+        return readPlan(input(data));
+    }
+
+    public static WorkoutSession decodeSession(byte[] data) throws IOException {
+        return new Reader(input(data), KIND_SESSION).readSession();
+    }
+
+    public static WorkoutPlan readPlan(DataInput in) throws IOException {
+        return new Reader(in, KIND_PLAN).readPlan();
+    }
+
+    private static DataInput input(byte[] data) {
+        return new DataInputStream(new ByteArrayInputStream(data));
+    }
+
+    private static final class Writer {
+        private final DataOutput out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<ExerciseTemplate, Integer> templates = new IdentityHashMap<>();
+
+        Writer(DataOutput out, int kind) throws IOException {
+            this.out = out;
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(kind);
+        }
+
+        void writePlan(WorkoutPlan plan) throws IOException {
+            writeString(plan.getPlanId());
+            writeString(plan.getName());
+            writeString(plan.getDescription());
+            writeString(plan.getTargetBmiCategory());
+            writeString(plan.getFitnessGoal());
+            writeString(plan.getFitnessLevel());
+            writeInt(plan.getDurationWeeks());
+            writeInt(plan.getWorkoutsPerWeek());
+            writeString(plan.getCreatedAt());
+            writeInt(plan.getEstimatedCaloriesBurn());
+            writeString(plan.getFocusArea());
+            writeString(plan.getWorkoutEnvironment());
+            out.writeBoolean(plan.isActive());
+            out.writeLong(plan.getVariationSeed());
+
+            List<Workout> workouts = plan.getWorkouts();
+            writeCount(workouts != null ? workouts.size() : -1);
+            if (workouts != null) {
+                for (Workout workout : workouts) {
+                    writeWorkout(workout);
+                }
+            }
+        }
+
+        void writeWorkout(Workout workout) throws IOException {
+            writeString(workout.getWorkoutId());
+            writeString(workout.getName());
+            writeString(workout.getDescription());
+            writeString(workout.getTargetMuscleGroups());
+            writeInt(workout.getDurationMinutes());
+            writeString(workout.getDifficultyLevel());
+            writeString(workout.getWorkoutType());
+            writeString(workout.getFocusArea());
+            writeString(workout.getWorkoutEnvironment());
+            writeInt(workout.getCaloriesBurnEstimate());
+            writeString(workout.getCreatedAt());
+            out.writeBoolean(workout.isCompleted());
+            writeInt(workout.getWeekNumber());
+            writeString(workout.getFitnessLevel());
+
+            List<Exercise> exercises = workout.getExercises();
+            writeCount(exercises != null ? exercises.size() : -1);
+            if (exercises != null) {
+                for (Exercise exercise : exercises) {
+                    writeExercise(exercise);
+                }
+            }
+        }
+
+        void writeExercise(Exercise exercise) throws IOException {
+            writeTemplate(exercise.getTemplate());
+            writeInt(exercise.getSets());
+            writeInt(exercise.getRepsPerSet());
+            writeInt(exercise.getRestBetweenSets());
+            out.writeFloat(exercise.getProgressionFactor());
+        }
+
+        void writeSession(WorkoutSession session) throws IOException {
+            writeString(session.getWorkoutId());
+            writeString(session.getWorkoutName());
+            writeString(session.getWorkoutType());
+            out.writeLong(session.getStartTimeMillis());
+            writeInt(session.getDurationMinutes());
+            writeInt(session.getCaloriesBurned());
+            out.writeBoolean(session.isCompleted());
+            writeString(session.getUserId());
+
+            Map<String, Boolean> progress = session.getExerciseProgress();
+            writeCount(progress != null ? progress.size() : -1);
+            if (progress != null) {
+                for (Map.Entry<String, Boolean> entry : progress.entrySet()) {
+                    writeString(entry.getKey());
+                    out.writeBoolean(Boolean.TRUE.equals(entry.getValue()));
+                }
+            }
+        }
+
+        private void writeTemplate(ExerciseTemplate template) throws IOException {
+            if (template == null) {
+                writeVarInt(REF_NULL);
+                return;
+            }
+            Integer index = templates.get(template);
+            if (index != null) {
+                writeVarInt(index + 2);
+                return;
+            }
+            templates.put(template, templates.size());
+            writeVarInt(REF_NEW);
+            writeString(template.getName());
+            writeString(template.getDescription());
+            writeString(template.getMuscleGroup());
+            writeString(template.getEquipmentNeeded());
+            writeString(template.getDifficultyLevel());
+            writeString(template.getExerciseType());
+            writeString(template.getImageUrl());
+            writeString(template.getVideoUrl());
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(REF_NULL);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt(index + 2);
+                return;
+            }
+            strings.put(value, strings.size());
+            writeVarInt(REF_NEW);
+            out.writeUTF(value);
+        }
+
+        // Sizes of nullable lists and maps, -1 for null
+        private void writeCount(int count) throws IOException {
+            writeVarInt(count + 1);
+        }
+
+        // Zigzag, so small negative values stay small as well
+        private void writeInt(int value) throws IOException {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    private static final class Reader {
+        private final DataInput in;
+        private final List<String> strings = new ArrayList<>();
+        private final List<ExerciseTemplate> templates = new ArrayList<>();
+
+        Reader(DataInput in, int kind) throws IOException {
+            this.in = in;
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an encoded workout model");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported codec version " + version);
+            }
+            int actualKind = in.readUnsignedByte();
+            if (actualKind != kind) {
+                throw new IOException("Expected model kind " + kind + ", found " + actualKind);
+            }
+        }
+
+        WorkoutPlan readPlan() throws IOException {
+            WorkoutPlan plan = new WorkoutPlan();
+            plan.setPlanId(readString());
+            plan.setName(readString());
+            plan.setDescription(readString());
+            plan.setTargetBmiCategory(readString());
+            plan.setFitnessGoal(readString());
+            plan.setFitnessLevel(readString());
+            plan.setDurationWeeks(readInt());
+            plan.setWorkoutsPerWeek(readInt());
+            plan.setCreatedAt(readString());
+            plan.setEstimatedCaloriesBurn(readInt());
+            plan.setFocusArea(readString());
+            plan.setWorkoutEnvironment(readString());
+            plan.setActive(in.readBoolean());
+            plan.setVariationSeed(in.readLong());
+
+            int count = readCount();
+            List<Workout> workouts = null;
+            if (count >= 0) {
+                workouts = new ArrayList<>(Math.min(count, MAX_PRESIZE));
+                for (int i = 0; i < count; i++) {
+                    workouts.add(readWorkout());
+                }
+            }
+            plan.setWorkouts(workouts);
+            return plan;
+        }
+
+        Workout readWorkout() throws IOException {
+            Workout workout = new Workout();
+            workout.setWorkoutId(readString());
+            workout.setName(readString());
+            workout.setDescription(readString());
+            workout.setTargetMuscleGroups(readString());
+            workout.setDurationMinutes(readInt());
+            workout.setDifficultyLevel(readString());
+            workout.setWorkoutType(readString());
+            workout.setFocusArea(readString());
+            workout.setWorkoutEnvironment(readString());
+            workout.setCaloriesBurnEstimate(readInt());
+            workout.setCreatedAt(readString());
+            workout.setCompleted(in.readBoolean());
+            workout.setWeekNumber(readInt());
+            workout.setFitnessLevel(readString());
+
+            int count = readCount();
+            List<Exercise> exercises = null;
+            if (count >= 0) {
+                exercises = new ArrayList<>(Math.min(count, MAX_PRESIZE));
+                for (int i = 0; i < count; i++) {
+                    exercises.add(readExercise());
+                }
+            }
+            workout.setExercises(exercises);
+            return workout;
+        }
+
+        Exercise readExercise() throws IOException {
+            ExerciseTemplate template = readTemplate();
+            Exercise exercise = new Exercise(template != null ? template : ExerciseTemplate.EMPTY,
+                    readInt(), readInt(), readInt());
+            exercise.setProgressionFactor(in.readFloat());
+            return exercise;
+        }
+
+        WorkoutSession readSession() throws IOException {
+            WorkoutSession session = new WorkoutSession();
+            session.setWorkoutId(readString());
+            session.setWorkoutName(readString());
+            session.setWorkoutType(readString());
+            session.setStartTimeMillis(in.readLong());
+            session.setDurationMinutes(readInt());
+            session.setCaloriesBurned(readInt());
+            session.setCompleted(in.readBoolean());
+            session.setUserId(readString());
+
+            int count = readCount();
+            Map<String, Boolean> progress = null;
+            if (count >= 0) {
+                progress = new HashMap<>();
+                for (int i = 0; i < count; i++) {
+                    progress.put(readString(), in.readBoolean());
+                }
+            }
+            session.setExerciseProgress(progress);
+            return session;
+        }
+
+        private ExerciseTemplate readTemplate() throws IOException {
+            int ref = readVarInt();
+            if (ref == REF_NULL) {
+                return null;
+            }
+            if (ref != REF_NEW) {
+                return lookup(templates, ref - 2);
+            }
+            ExerciseTemplate template = new ExerciseTemplate(readString(), readString(), readString(),
+                    readString(), readString(), readString(), readString(), readString());
+            templates.add(template);
+            return template;
+        }
+
+        private String readString() throws IOException {
+            int ref = readVarInt();
+            if (ref == REF_NULL) {
+                return null;
+            }
+            if (ref != REF_NEW) {
+                return lookup(strings, ref - 2);
+            }
+            String value = in.readUTF();
+            strings.add(value);
+            return value;
+        }
+
+        private static <T> T lookup(List<T> table, int index) throws IOException {
+            if (index < 0 || index >= table.size()) {
+                throw new IOException("Reference to unknown entry " + index);
+            }
+            return table.get(index);
+        }
+
+        private int readCount() throws IOException {
+            int value = readVarInt();
+            if (value < 0) {
+                throw new IOException("Invalid count " + (value & 0xFFFFFFFFL));
+            }
+            return value - 1;
+        }
+
+        private int readInt() throws IOException {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+    }
+}
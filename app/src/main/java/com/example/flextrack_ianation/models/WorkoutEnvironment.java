@@ -0,0 +1,36 @@
+package com.example.flextrack_ianation.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Where the user works out. Anything other than home or gym counts as outdoors.
+ */
+public enum WorkoutEnvironment {
+    HOME("Home"),
+    GYM("Gym"),
+    OUTDOOR("Outdoor");
+
+    private static final Map<String, WorkoutEnvironment> BY_LABEL = new HashMap<>();
+
+    static {
+        for (WorkoutEnvironment environment : values()) {
+            BY_LABEL.put(environment.label, environment);
+        }
+    }
+
+    private final String label;
+
+    WorkoutEnvironment(String label) {
+        this.label = label;
+    }
+
+    public static WorkoutEnvironment fromLabel(String label) {
+        WorkoutEnvironment environment = label != null ? BY_LABEL.get(label) : null;
+        return environment != null ? environment : OUTDOOR;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
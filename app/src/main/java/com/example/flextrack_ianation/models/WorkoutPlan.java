@@ -2,12 +2,33 @@ package com.example.flextrack_ianation.models;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Model class representing a complete workout plan with multiple workouts.
+ *
+ * A generated plan can be lazy: instead of holding every workout, it keeps a
+ * {@link WeekSource} that builds the workouts of a week on first access. Only the
+ * last few weeks used are kept in memory. {@link #getWorkouts()} still returns the
+ * whole plan, building the weeks that are not cached; to save a lazy plan, upload
+ * {@link #toMap()} and then {@link #buildWorkoutsForWeek} one week at a time.
  */
 public class WorkoutPlan implements Serializable {
+    // Materialized weeks kept in memory for lazy plans
+    private static final int MAX_CACHED_WEEKS = 3;
+
+    /**
+     * Builds the workouts of one week. Must return the same workouts every time it
+     * is called for the same week.
+     */
+    public interface WeekSource extends Serializable {
+        List<Workout> createWeek(int week);
+    }
+
     private String planId;
     private String name;
     private String description;
@@ -22,6 +43,9 @@ public class WorkoutPlan implements Serializable {
     private String focusArea;
     private String workoutEnvironment;
     private boolean isActive;
+    private long variationSeed; // rebuilds the same exercises from the profile, 0 for none
+    private WeekSource weekSource; // null once the workouts are held in the list
+    private transient Map<Integer, List<Workout>> materializedWeeks;
 
     // Empty constructor required for Firebase
     public WorkoutPlan() {
@@ -45,12 +69,109 @@ public class WorkoutPlan implements Serializable {
     }
 
     public void addWorkout(Workout workout) {
+        // Editing a lazy plan turns it into a plain list first
+        detachWeekSource();
         if (workouts == null) {
             workouts = new ArrayList<>();
         }
         workouts.add(workout);
     }
 
+    public void setWeekSource(WeekSource weekSource) {
+        this.weekSource = weekSource;
+        this.workouts = new ArrayList<>();
+        this.materializedWeeks = null;
+    }
+
+    /**
+     * Returns the workouts of one week (starting at 1). Lazy plans build the week on
+     * first access, other plans filter their workouts by week number.
+     */
+    public List<Workout> getWorkoutsForWeek(int week) {
+        if (week < 1 || week > durationWeeks) {
+            return Collections.emptyList();
+        }
+
+        if (weekSource == null) {
+            List<Workout> weekWorkouts = new ArrayList<>();
+            if (workouts != null) {
+                for (Workout workout : workouts) {
+                    if (workout.getWeekNumber() == week) {
+                        weekWorkouts.add(workout);
+                    }
+                }
+            }
+            return weekWorkouts;
+        }
+
+        if (materializedWeeks == null) {
+            // Access-ordered, so the least recently viewed week is dropped first
+            materializedWeeks = new LinkedHashMap<Integer, List<Workout>>(MAX_CACHED_WEEKS + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<Workout>> eldest) {
+                    return size() > MAX_CACHED_WEEKS;
+                }
+            };
+        }
+        List<Workout> weekWorkouts = materializedWeeks.get(week);
+        if (weekWorkouts == null) {
+            weekWorkouts = weekSource.createWeek(week);
+            materializedWeeks.put(week, weekWorkouts);
+        }
+        return weekWorkouts;
+    }
+
+    /**
+     * Returns true if the workouts are built week by week instead of held in a list.
+     */
+    public boolean hasWeekSource() {
+        return weekSource != null;
+    }
+
+    /**
+     * Returns the workouts of one week like {@link #getWorkoutsForWeek}, but builds a
+     * week that is not cached without caching it, so going through every week once
+     * does not push the weeks being viewed out of the cache.
+     */
+    public List<Workout> buildWorkoutsForWeek(int week) {
+        if (weekSource == null) {
+            return getWorkoutsForWeek(week);
+        }
+        List<Workout> cached = materializedWeeks != null ? materializedWeeks.get(week) : null;
+        return cached != null ? cached : weekSource.createWeek(week);
+    }
+
+    /**
+     * Returns the plan fields in their Firebase form, without the workouts.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("planId", planId);
+        map.put("name", name);
+        map.put("description", description);
+        map.put("targetBmiCategory", targetBmiCategory);
+        map.put("fitnessGoal", fitnessGoal);
+        map.put("fitnessLevel", fitnessLevel);
+        map.put("durationWeeks", durationWeeks);
+        map.put("workoutsPerWeek", workoutsPerWeek);
+        map.put("createdAt", createdAt);
+        map.put("estimatedCaloriesBurn", estimatedCaloriesBurn);
+        map.put("focusArea", focusArea);
+        map.put("workoutEnvironment", workoutEnvironment);
+        map.put("active", isActive);
+        map.put("variationSeed", variationSeed);
+        return map;
+    }
+
+    private void detachWeekSource() {
+        if (weekSource != null) {
+            List<Workout> allWorkouts = getWorkouts();
+            weekSource = null;
+            materializedWeeks = null;
+            workouts = allWorkouts;
+        }
+    }
+
     // Getters and setters
     public String getPlanId() {
         return planId;
@@ -117,10 +238,21 @@ public class WorkoutPlan implements Serializable {
     }
 
     public List<Workout> getWorkouts() {
-        return workouts;
+        if (weekSource == null) {
+            return workouts;
+        }
+
+        // Build the full plan without pushing every week through the cache
+        List<Workout> allWorkouts = new ArrayList<>();
+        for (int week = 1; week <= durationWeeks; week++) {
+            allWorkouts.addAll(buildWorkoutsForWeek(week));
+        }
+        return allWorkouts;
     }
 
     public void setWorkouts(List<Workout> workouts) {
+        this.weekSource = null;
+        this.materializedWeeks = null;
         this.workouts = workouts;
     }
 
@@ -163,4 +295,12 @@ public class WorkoutPlan implements Serializable {
     public void setActive(boolean active) {
         isActive = active;
     }
+
+    public long getVariationSeed() {
+        return variationSeed;
+    }
+
+    public void setVariationSeed(long variationSeed) {
+        this.variationSeed = variationSeed;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.example.flextrack_ianation.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Type of a workout or exercise, with the standard calorie burn per minute used
+ * for estimates.
+ */
+public enum WorkoutType {
+    CARDIO("Cardio", 10),
+    STRENGTH("Strength", 8),
+    MIXED("Mixed", 9),
+    RECOVERY("Recovery", 5),
+    PLYOMETRIC("Plyometric", 7),
+    UPPER_BODY("Upper Body", 7),
+    LOWER_BODY("Lower Body", 7),
+    CORE("Core", 7),
+    OTHER(null, 7);
+
+    private static final Map<String, WorkoutType> BY_LABEL = new HashMap<>();
+
+    static {
+        for (WorkoutType type : values()) {
+            if (type.label != null) {
+                BY_LABEL.put(type.label, type);
+            }
+        }
+    }
+
+    private final String label;
+    private final int caloriesPerMinute;
+
+    WorkoutType(String label, int caloriesPerMinute) {
+        this.label = label;
+        this.caloriesPerMinute = caloriesPerMinute;
+    }
+
+    /**
+     * Returns the type for a label, or {@link #OTHER} if it is not known.
+     */
+    public static WorkoutType fromLabel(String label) {
+        WorkoutType type = label != null ? BY_LABEL.get(label) : null;
+        return type != null ? type : OTHER;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getCaloriesPerMinute() {
+        return caloriesPerMinute;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.flextrack_ianation.services;
+
+/**
+ * Decides how fast the accelerometer fallback needs to sample. While steps keep
+ * coming the accelerometer runs at full rate; after a stretch without steps the
+ * controller goes idle, where the service either waits for a significant motion
+ * trigger or samples slowly and only watches for movement.
+ *
+ * Also counts processed samples per minute, so the savings of the idle mode can
+ * be read straight from the log.
+ */
+public class AdaptiveSamplingController {
+    // Without a step for this long we consider the user stationary
+    private static final long IDLE_TIMEOUT_NS = 30_000_000_000L;
+    // Deviation from gravity (m/s^2) that counts as movement while idle
+    private static final float MOTION_THRESHOLD = 1.5f;
+    private static final float GRAVITY = 9.81f;
+    private static final long MINUTE_NS = 60_000_000_000L;
+
+    private boolean idle = false;
+    private long lastActivityNs = -1;
+
+    // Samples-per-minute counter, written by the sensor thread and read from others
+    // for reporting
+    private volatile long minuteStartNs = -1;
+    private volatile int samplesThisMinute = 0;
+    private volatile int samplesLastMinute = 0;
+
+    public boolean isIdle() {
+        return idle;
+    }
+
+    /**
+     * Counts a processed sample.
+     *
+     * @return true if a full minute was just completed, see {@link #getSamplesPerMinute}
+     */
+    public boolean onSample(long timestampNs) {
+        if (minuteStartNs < 0) {
+            minuteStartNs = timestampNs;
+        }
+
+        boolean minuteCompleted = false;
+        if (timestampNs - minuteStartNs >= MINUTE_NS) {
+            samplesLastMinute = samplesThisMinute;
+            samplesThisMinute = 0;
+            minuteStartNs = timestampNs;
+            minuteCompleted = true;
+        }
+        samplesThisMinute++;
+        return minuteCompleted;
+    }
+
+    public void onStep(long timestampNs) {
+        lastActivityNs = timestampNs;
+    }
+
+    /**
+     * Checks a full-rate sample and returns true if the sampler should switch to idle.
+     */
+    public boolean shouldGoIdle(long timestampNs) {
+        if (idle) {
+            return false;
+        }
+        if (lastActivityNs < 0) {
+            lastActivityNs = timestampNs;
+        }
+        if (timestampNs - lastActivityNs >= IDLE_TIMEOUT_NS) {
+            idle = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks a low-rate sample taken while idle and returns true if it shows enough
+     * movement to switch back to full rate.
+     */
+    public boolean shouldWakeUp(float x, float y, float z) {
+        if (!idle) {
+            return false;
+        }
+        float magnitude = (float) Math.sqrt(x * x + y * y + z * z);
+        return Math.abs(magnitude - GRAVITY) > MOTION_THRESHOLD;
+    }
+
+    /**
+     * Switches back to full rate, e.g. after movement or a significant motion trigger.
+     */
+    public void wakeUp() {
+        idle = false;
+        // Start the idle timeout over from the first full-rate sample
+        lastActivityNs = -1;
+    }
+
+    /**
+     * Returns the samples of the last full minute before {@code nowNs}, a time on the
+     * sensor event clock. The minute only rolls over when a sample arrives, so while
+     * the accelerometer is off the count is aged here instead.
+     */
+    public int getSamplesPerMinute(long nowNs) {
+        long startNs = minuteStartNs;
+        if (startNs < 0 || nowNs - startNs >= 2 * MINUTE_NS) {
+            // No samples at all during the last full minute
+            return 0;
+        }
+        if (nowNs - startNs >= MINUTE_NS) {
+            // The current minute is over, but no sample has rolled it over yet
+            return samplesThisMinute;
+        }
+        return samplesLastMinute;
+    }
+}
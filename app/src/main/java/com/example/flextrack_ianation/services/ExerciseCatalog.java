@@ -0,0 +1,284 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.models.Exercise;
+import com.example.flextrack_ianation.models.ExerciseTemplate;
+import com.example.flextrack_ianation.models.FitnessLevel;
+import com.example.flextrack_ianation.models.WorkoutEnvironment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only table of every exercise the workout generators can hand out, loaded once
+ * from the {@code exercise_catalog.tsv} resource next to this class.
+ *
+ * Exercises are grouped by BMI category, environment and workout type. Inside a group
+ * each line can be limited to certain focus areas and fitness levels, see the header
+ * of the resource for the matching rules. Query results are cached, so after the
+ * first plan a lookup is a single map access.
+ *
+ * With a {@link PlanVariation} the exercises of a workout rotate from day to day, and
+ * some are swapped for exercises the catalog lists for easier fitness levels.
+ */
+public final class ExerciseCatalog {
+    private static final String RESOURCE = "exercise_catalog.tsv";
+    private static final int COLUMNS = 14;
+
+    // BMI category of exercises shared by all categories (active recovery)
+    public static final String ANY_BMI = "Any";
+
+    // On average one in this many rotating exercises is swapped for an alternative
+    private static final int SWAP_ODDS = 3;
+
+    private static ExerciseCatalog instance;
+
+    // Lines per group, keyed by bmiCategory|environment|workoutType
+    private final Map<String, List<Entry>> groups;
+    private final Map<String, List<Entry>> queryCache = new ConcurrentHashMap<>();
+
+    /**
+     * One catalog line. Immutable, so entries are shared by all plans. Every
+     * exercise created from an entry points at the same {@link ExerciseTemplate}.
+     */
+    public static final class Entry {
+        private final String focusArea;
+        private final String fitnessLevel;
+        private final int sets;
+        private final int repsPerSet;
+        private final int restBetweenSets;
+        // Set when the line has a fixed difficulty
+        private final ExerciseTemplate fixedTemplate;
+        // Otherwise one template per plan fitness level, created on first use
+        private final Map<String, ExerciseTemplate> templatesByLevel;
+        private final String[] columns;
+
+        private Entry(String[] columns) {
+            this.columns = columns;
+            focusArea = columns[3];
+            fitnessLevel = columns[4];
+            sets = Integer.parseInt(columns[8]);
+            repsPerSet = Integer.parseInt(columns[9]);
+            restBetweenSets = Integer.parseInt(columns[10]);
+            if (LabelPatterns.ANY.equals(columns[12])) {
+                fixedTemplate = null;
+                templatesByLevel = new ConcurrentHashMap<>();
+            } else {
+                fixedTemplate = createTemplate(columns[12]);
+                templatesByLevel = null;
+            }
+        }
+
+        private ExerciseTemplate createTemplate(String difficulty) {
+            return new ExerciseTemplate(columns[5], columns[6], columns[7], columns[11],
+                    difficulty, columns[13], null, null);
+        }
+
+        // Lines for every focus area and level, e.g. warm-ups, keep their place in a workout
+        private boolean isGeneral() {
+            return LabelPatterns.ANY.equals(focusArea) && LabelPatterns.ANY.equals(fitnessLevel);
+        }
+
+        public ExerciseTemplate getTemplate(String planFitnessLevel) {
+            if (fixedTemplate != null) {
+                return fixedTemplate;
+            }
+            ExerciseTemplate template = templatesByLevel.get(planFitnessLevel);
+            if (template == null) {
+                template = createTemplate(planFitnessLevel);
+                ExerciseTemplate existing = templatesByLevel.putIfAbsent(planFitnessLevel, template);
+                if (existing != null) {
+                    template = existing;
+                }
+            }
+            return template;
+        }
+
+        public Exercise toExercise(String planFitnessLevel) {
+            return new Exercise(getTemplate(planFitnessLevel), sets, repsPerSet, restBetweenSets);
+        }
+    }
+
+    public static synchronized ExerciseCatalog getInstance() {
+        if (instance == null) {
+            InputStream in = ExerciseCatalog.class.getResourceAsStream(RESOURCE);
+            if (in == null) {
+                throw new IllegalStateException("Missing resource " + RESOURCE);
+            }
+            try {
+                instance = new ExerciseCatalog(in);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read " + RESOURCE, e);
+            }
+        }
+        return instance;
+    }
+
+    ExerciseCatalog(InputStream in) throws IOException {
+        Map<String, List<Entry>> loaded = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] columns = line.split("\t", -1);
+                if (columns.length != COLUMNS) {
+                    throw new IOException(RESOURCE + ":" + lineNumber + ": expected " + COLUMNS
+                            + " columns, found " + columns.length);
+                }
+                String key = groupKey(columns[0], columns[1], columns[2]);
+                List<Entry> group = loaded.get(key);
+                if (group == null) {
+                    group = new ArrayList<>();
+                    loaded.put(key, group);
+                }
+                try {
+                    group.add(new Entry(columns));
+                } catch (NumberFormatException e) {
+                    throw new IOException(RESOURCE + ":" + lineNumber + ": " + e.getMessage());
+                }
+            }
+        }
+        groups = loaded;
+    }
+
+    /**
+     * Returns the exercises for a workout, in catalog order.
+     *
+     * @param environment "Home" or "Gym", anything else is treated as outdoors
+     */
+    public List<Entry> find(String bmiCategory, String environment, String workoutType,
+                            String focusArea, String fitnessLevel) {
+        String key = groupKey(bmiCategory, normalizeEnvironment(environment), workoutType);
+        String queryKey = key + "|" + focusArea + "|" + fitnessLevel;
+        List<Entry> result = queryCache.get(queryKey);
+        if (result == null) {
+            result = select(groups.get(key), focusArea, fitnessLevel);
+            queryCache.put(queryKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns exercises of the same group that the catalog lists for the focus area at
+     * easier fitness levels, excluding those {@link #find} returns for the plan level.
+     */
+    public List<Entry> findAlternatives(String bmiCategory, String environment, String workoutType,
+                                        String focusArea, String fitnessLevel) {
+        String key = groupKey(bmiCategory, normalizeEnvironment(environment), workoutType);
+        String queryKey = "alternatives|" + key + "|" + focusArea + "|" + fitnessLevel;
+        List<Entry> result = queryCache.get(queryKey);
+        if (result == null) {
+            result = selectAlternatives(groups.get(key), focusArea, FitnessLevel.fromLabel(fitnessLevel),
+                    find(bmiCategory, environment, workoutType, focusArea, fitnessLevel));
+            queryCache.put(queryKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exercises of a workout for one training day: the result of
+     * {@link #find} rotated, with some exercises swapped for alternatives.
+     */
+    static List<Entry> vary(List<Entry> selected, List<Entry> alternatives, PlanVariation variation) {
+        List<Entry> rotating = new ArrayList<>();
+        for (Entry entry : selected) {
+            if (!entry.isGeneral()) {
+                rotating.add(entry);
+            }
+        }
+        if (rotating.isEmpty()) {
+            return selected;
+        }
+
+        // General lines stay in place, the others start at a random offset and some
+        // of them are replaced by an alternative, each alternative used at most once
+        List<Entry> spare = alternatives.isEmpty() ? alternatives : new ArrayList<>(alternatives);
+        int offset = variation.nextInt(rotating.size());
+        List<Entry> result = new ArrayList<>(selected.size());
+        for (Entry entry : selected) {
+            if (entry.isGeneral()) {
+                result.add(entry);
+                continue;
+            }
+            Entry chosen = rotating.get(offset++ % rotating.size());
+            if (!spare.isEmpty() && variation.nextInt(SWAP_ODDS) == 0) {
+                chosen = spare.remove(variation.nextInt(spare.size()));
+            }
+            result.add(chosen);
+        }
+        return result;
+    }
+
+    private static List<Entry> select(List<Entry> group, String focusArea, String fitnessLevel) {
+        if (group == null) {
+            return Collections.emptyList();
+        }
+
+        // "-" lines apply when no other line of the group names the value
+        Set<String> namedFocusAreas = new HashSet<>();
+        Map<String, Set<String>> namedLevelsByFocus = new HashMap<>();
+        for (Entry entry : group) {
+            namedFocusAreas.addAll(LabelPatterns.values(entry.focusArea));
+            Set<String> levels = namedLevelsByFocus.get(entry.focusArea);
+            if (levels == null) {
+                levels = new HashSet<>();
+                namedLevelsByFocus.put(entry.focusArea, levels);
+            }
+            levels.addAll(LabelPatterns.values(entry.fitnessLevel));
+        }
+
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : group) {
+            if (LabelPatterns.matches(entry.focusArea, focusArea, namedFocusAreas)
+                    && LabelPatterns.matches(entry.fitnessLevel, fitnessLevel, namedLevelsByFocus.get(entry.focusArea))) {
+                result.add(entry);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<Entry> selectAlternatives(List<Entry> group, String focusArea, FitnessLevel fitnessLevel,
+                                                  List<Entry> selected) {
+        // Unknown levels have no defined easier levels
+        if (group == null || fitnessLevel == FitnessLevel.OTHER) {
+            return Collections.emptyList();
+        }
+
+        Set<Entry> seen = new HashSet<>(selected);
+        List<Entry> result = new ArrayList<>();
+        for (FitnessLevel easier : FitnessLevel.values()) {
+            if (easier.ordinal() >= fitnessLevel.ordinal()) {
+                break;
+            }
+            for (Entry entry : select(group, focusArea, easier.getLabel())) {
+                if (!entry.isGeneral() && seen.add(entry)) {
+                    result.add(entry);
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static String normalizeEnvironment(String environment) {
+        return WorkoutEnvironment.fromLabel(environment).getLabel();
+    }
+
+    private static String groupKey(String bmiCategory, String environment, String workoutType) {
+        return bmiCategory + "|" + environment + "|" + workoutType;
+    }
+}
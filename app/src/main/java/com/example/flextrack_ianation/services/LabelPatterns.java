@@ -0,0 +1,43 @@
+package com.example.flextrack_ianation.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matching rules for the label columns of the generator resources: "*" matches any
+ * value, "A|B" matches either value and "-" matches any value that no other line of
+ * the same group names. "-" can be part of a list, e.g. "A|-".
+ */
+final class LabelPatterns {
+    static final String ANY = "*";
+    static final String OTHER = "-";
+
+    private LabelPatterns() {
+    }
+
+    /**
+     * @param namedValues values named by the lines of the group, for "-" patterns
+     */
+    static boolean matches(String pattern, String value, Set<String> namedValues) {
+        if (ANY.equals(pattern)) {
+            return true;
+        }
+        List<String> values = Arrays.asList(pattern.split("\\|"));
+        return values.contains(value) || (values.contains(OTHER) && !namedValues.contains(value));
+    }
+
+    /**
+     * Returns the values a pattern names, none for "*" and "-".
+     */
+    static List<String> values(String pattern) {
+        if (ANY.equals(pattern)) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(Arrays.asList(pattern.split("\\|")));
+        values.remove(OTHER);
+        return values;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.flextrack_ianation.services;
+
+/**
+ * Accelerometer step detector that band-pass filters the acceleration magnitude
+ * and counts a step for every peak that rises far enough above the preceding
+ * valley. The threshold adapts to the swing seen over the last couple of seconds,
+ * so light and heavy walkers are both counted without a fixed magic number.
+ *
+ * Recent filtered samples are kept in a fixed-size primitive ring buffer keyed on
+ * the sensor timestamp, and nothing is allocated per sample.
+ */
+public class PeakValleyStepDetector implements StepDetector {
+    public static final int DEFAULT_CAPACITY = 128;
+
+    // Band-pass corner frequencies, walking cadence sits roughly between 1 and 3 Hz
+    private static final float HIGH_PASS_HZ = 0.5f;
+    private static final float LOW_PASS_HZ = 3.0f;
+
+    // Smallest peak-to-valley swing (m/s^2) that can ever count as a step
+    private static final float MIN_AMPLITUDE = 1.0f;
+    // A step must reach this fraction of the recent swing
+    private static final float ADAPTIVE_FACTOR = 0.5f;
+    // How far back the recent swing is measured
+    private static final long WINDOW_NS = 2_000_000_000L;
+    // Peaks closer than this are treated as noise (max 4 steps per second)
+    private static final long MIN_STEP_INTERVAL_NS = 250_000_000L;
+
+    private static final float HIGH_PASS_RC = (float) (1.0 / (2 * Math.PI * HIGH_PASS_HZ));
+    private static final float LOW_PASS_RC = (float) (1.0 / (2 * Math.PI * LOW_PASS_HZ));
+
+    // Ring buffer of filtered samples
+    private final long[] timestamps;
+    private final float[] values;
+    private int head = 0;
+    private int size = 0;
+
+    // Filter state
+    private boolean primed = false;
+    private long lastTimestampNs;
+    private float lastMagnitude;
+    private float highPassed;
+    private float lowPassed;
+
+    // Detection state
+    private boolean hasValley = false;
+    private float lastValley;
+    private long lastStepNs;
+    private boolean hasStep = false;
+
+    public PeakValleyStepDetector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PeakValleyStepDetector(int capacity) {
+        if (capacity < 3) {
+            throw new IllegalArgumentException("Capacity must be at least 3");
+        }
+        timestamps = new long[capacity];
+        values = new float[capacity];
+    }
+
+    @Override
+    public boolean onSample(long timestampNs, float x, float y, float z) {
+        float magnitude = (float) Math.sqrt(x * x + y * y + z * z);
+
+        // The first sample only primes the filters
+        if (!primed) {
+            primed = true;
+            lastTimestampNs = timestampNs;
+            lastMagnitude = magnitude;
+            return false;
+        }
+
+        // Drop duplicated or out-of-order samples
+        if (timestampNs <= lastTimestampNs) {
+            return false;
+        }
+
+        float dt = (timestampNs - lastTimestampNs) * 1e-9f;
+        lastTimestampNs = timestampNs;
+
+        // High-pass removes gravity and slow drift
+        float highPassAlpha = HIGH_PASS_RC / (HIGH_PASS_RC + dt);
+        highPassed = highPassAlpha * (highPassed + magnitude - lastMagnitude);
+        lastMagnitude = magnitude;
+
+        // Low-pass removes jitter above walking frequency
+        float lowPassAlpha = dt / (LOW_PASS_RC + dt);
+        lowPassed += lowPassAlpha * (highPassed - lowPassed);
+
+        push(timestampNs, lowPassed);
+        if (size < 3) {
+            return false;
+        }
+
+        // Classify the middle of the three newest samples
+        int middle = index(1);
+        float previous = values[index(2)];
+        float current = values[middle];
+        float next = values[index(0)];
+
+        if (current <= previous && current < next) {
+            // Keep the deepest valley since the last step
+            if (!hasValley || current < lastValley) {
+                lastValley = current;
+                hasValley = true;
+            }
+            return false;
+        }
+
+        if (current >= previous && current > next && hasValley) {
+            long peakNs = timestamps[middle];
+            if (hasStep && peakNs - lastStepNs < MIN_STEP_INTERVAL_NS) {
+                return false;
+            }
+
+            float threshold = Math.max(MIN_AMPLITUDE, ADAPTIVE_FACTOR * recentSwing(peakNs));
+            if (current - lastValley >= threshold) {
+                lastStepNs = peakNs;
+                hasStep = true;
+                hasValley = false;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        head = 0;
+        size = 0;
+        primed = false;
+        highPassed = 0f;
+        lowPassed = 0f;
+        hasValley = false;
+        hasStep = false;
+    }
+
+    /**
+     * Returns the difference between the highest and lowest filtered value in the
+     * window ending at the given timestamp.
+     */
+    private float recentSwing(long endNs) {
+        float max = -Float.MAX_VALUE;
+        float min = Float.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int slot = index(i);
+            if (endNs - timestamps[slot] > WINDOW_NS) {
+                break;
+            }
+            max = Math.max(max, values[slot]);
+            min = Math.min(min, values[slot]);
+        }
+        return max - min;
+    }
+
+    private void push(long timestampNs, float value) {
+        timestamps[head] = timestampNs;
+        values[head] = value;
+        head = (head + 1) % values.length;
+        if (size < values.length) {
+            size++;
+        }
+    }
+
+    // Slot of the sample 'age' positions back from the newest one
+    private int index(int age) {
+        return (head - 1 - age + values.length) % values.length;
+    }
+}
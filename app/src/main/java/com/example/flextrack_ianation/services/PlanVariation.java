@@ -0,0 +1,56 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.utils.StableHash;
+
+/**
+ * Seeded random numbers for varying generated plans. A plan seed is derived from the
+ * user and plan id, and every training day gets its own SplitMix64 stream from that
+ * seed, the week and the day. The same plan therefore comes out the same on every
+ * device, and weeks can be built in any order.
+ */
+public final class PlanVariation {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    private PlanVariation(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Returns the seed of a plan. Never 0, which stands for a plan without variation.
+     */
+    public static long planSeed(String userId, String planId) {
+        long seed = mix(StableHash.fnv1a64(userId + "/" + planId));
+        return seed != 0 ? seed : GOLDEN_GAMMA;
+    }
+
+    /**
+     * Returns the random stream of one training day of a plan.
+     */
+    static PlanVariation forDay(long planSeed, int week, int day) {
+        return new PlanVariation(planSeed ^ mix(((long) week << 32) | (day & 0xffffffffL)));
+    }
+
+    long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /**
+     * Returns a value from 0 (inclusive) to bound (exclusive).
+     */
+    int nextInt(int bound) {
+        // Multiply and shift instead of modulo. Like modulo it favours some values, by
+        // at most bound / 2^32, which does not matter for picking exercises. Lemire's
+        // rejection step would remove it but change the plans already rebuilt from seeds.
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
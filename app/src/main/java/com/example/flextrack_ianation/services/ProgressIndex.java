@@ -0,0 +1,100 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.models.WorkoutSession;
+import com.example.flextrack_ianation.utils.TimeFormats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Workout sessions sorted by start time. The sessions and totals of a day, week or
+ * month are found with a binary search, without going through the other sessions.
+ */
+final class ProgressIndex {
+    private static final Comparator<WorkoutSession> BY_START_TIME = new Comparator<WorkoutSession>() {
+        @Override
+        public int compare(WorkoutSession a, WorkoutSession b) {
+            return Long.compare(a.getStartTimeMillis(), b.getStartTimeMillis());
+        }
+    };
+
+    private final List<WorkoutSession> sessions = new ArrayList<>();
+
+    /**
+     * Replaces the sessions that started in {@code [startMillis, endMillis)}. Sessions
+     * of the replacement outside that range are ignored.
+     */
+    void replace(long startMillis, long endMillis, Collection<WorkoutSession> replacement) {
+        List<WorkoutSession> sorted = new ArrayList<>(replacement.size());
+        for (WorkoutSession session : replacement) {
+            if (session.getStartTimeMillis() >= startMillis && session.getStartTimeMillis() < endMillis) {
+                sorted.add(session);
+            }
+        }
+        Collections.sort(sorted, BY_START_TIME);
+
+        int from = firstAtOrAfter(startMillis);
+        sessions.subList(from, firstAtOrAfter(endMillis)).clear();
+        sessions.addAll(from, sorted);
+    }
+
+    /**
+     * Returns the sessions that started in {@code [startMillis, endMillis)}, oldest first.
+     */
+    List<WorkoutSession> between(long startMillis, long endMillis) {
+        int from = firstAtOrAfter(startMillis);
+        int to = Math.max(from, firstAtOrAfter(endMillis));
+        return new ArrayList<>(sessions.subList(from, to));
+    }
+
+    /**
+     * Adds up the completed sessions that started in {@code [startMillis, endMillis)}.
+     */
+    ProgressSummary summarize(long startMillis, long endMillis) {
+        int minutes = 0;
+        int calories = 0;
+        int workouts = 0;
+        Map<String, Integer> minutesByDay = new HashMap<>();
+        Map<String, Integer> workoutsByType = new HashMap<>();
+
+        int to = firstAtOrAfter(endMillis);
+        for (int i = firstAtOrAfter(startMillis); i < to; i++) {
+            WorkoutSession session = sessions.get(i);
+            if (!session.isCompleted()) {
+                continue;
+            }
+            minutes += session.getDurationMinutes();
+            calories += session.getCaloriesBurned();
+            workouts++;
+
+            String day = TimeFormats.day(session.getStartTimeMillis());
+            Integer dayMinutes = minutesByDay.get(day);
+            minutesByDay.put(day, (dayMinutes != null ? dayMinutes : 0) + session.getDurationMinutes());
+            if (session.getWorkoutType() != null) {
+                Integer typeCount = workoutsByType.get(session.getWorkoutType());
+                workoutsByType.put(session.getWorkoutType(), (typeCount != null ? typeCount : 0) + 1);
+            }
+        }
+        return new ProgressSummary(minutes, calories, workouts, minutesByDay, workoutsByType);
+    }
+
+    // Index of the first session that started at or after the given time
+    private int firstAtOrAfter(long timeMillis) {
+        int low = 0;
+        int high = sessions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sessions.get(middle).getStartTimeMillis() < timeMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
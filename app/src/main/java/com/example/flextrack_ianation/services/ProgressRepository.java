@@ -0,0 +1,423 @@
+package com.example.flextrack_ianation.services;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.fragment.app.FragmentActivity;
+import androidx.lifecycle.ViewModel;
+import androidx.lifecycle.ViewModelProvider;
+
+import com.example.flextrack_ianation.models.WorkoutSession;
+import com.example.flextrack_ianation.utils.TimeFormats;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Workout sessions of the signed-in user for the Daily, Weekly and Monthly progress
+ * tabs, shared by the tabs of one ProgressActivity.
+ *
+ * The Daily tab observes the sessions of its day. The sessions and the legacy
+ * {@code workoutHistory} entries of every calendar month an observed period overlaps
+ * are kept up to date by one realtime range query each on that month, and kept in a
+ * {@link ProgressIndex}, so the data loaded follows the periods viewed rather than
+ * the user's whole history. Listeners are shared by the tabs and removed once no tab
+ * observes their month, so moving between days or weeks never stacks listeners. The
+ * index keeps the sessions of months seen before, so switching tabs or going back to
+ * a period shows them right away. Periods without sessions fall back to the legacy
+ * history, as the tabs did before. The legacy range needs {@code ".indexOn": "date"}
+ * on {@code users/$uid/workoutHistory}.
+ *
+ * The Weekly and Monthly tabs observe the totals of their period instead, which come
+ * from the small {@link ProgressRollups} documents of that period rather than from
+ * the sessions, with the same legacy fallback.
+ */
+public class ProgressRepository extends ViewModel {
+    private static final String TAG = "ProgressRepository";
+    private static final String HISTORY = "workoutHistory";
+    private static final String SESSIONS_LISTENER = "sessions/";
+    private static final String HISTORY_LISTENER = "history/";
+    private static final String ROLLUPS_LISTENER = "rollups/";
+
+    private final DatabaseReference database = FirebaseDatabase.getInstance().getReference();
+    private final ProgressIndex sessions = new ProgressIndex();
+    private final ProgressIndex legacySessions = new ProgressIndex();
+    // Totals by ProgressRollups documents key
+    private final Map<String, ProgressSummary> rollups = new HashMap<>();
+    private final QueryListeners listeners = new QueryListeners();
+    // The period each tab shows, by tab
+    private final Map<Object, Observer> observers = new HashMap<>();
+
+    private String userId;
+    private boolean indexed;
+    private boolean indexing;
+    // Keys of the listeners whose data is in the indexes
+    private final Set<String> loaded = new HashSet<>();
+
+    private static final class Observer {
+        final List<Long> months;
+        final boolean sessions;
+        // Period of the observed totals, or null for sessions
+        final String rollup;
+        final long startMillis;
+        final long endMillis;
+        final Runnable onChanged;
+        // Keys of the listeners whose data the observer shows
+        final List<String> keys = new ArrayList<>();
+
+        Observer(long startMillis, long endMillis, boolean sessions, Runnable onChanged) {
+            this.months = monthsBetween(startMillis, endMillis);
+            this.sessions = sessions;
+            this.rollup = sessions ? null : ProgressRollups.documentsKey(startMillis, endMillis);
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.onChanged = onChanged;
+
+            for (long monthStart : months) {
+                keys.add(HISTORY_LISTENER + monthStart);
+                if (sessions) {
+                    keys.add(SESSIONS_LISTENER + monthStart);
+                }
+            }
+            if (rollup != null) {
+                keys.add(ROLLUPS_LISTENER + rollup);
+            }
+        }
+    }
+
+    /**
+     * Returns the repository of the activity the progress tabs are shown in.
+     */
+    public static ProgressRepository get(FragmentActivity activity) {
+        return new ViewModelProvider(activity).get(ProgressRepository.class);
+    }
+
+    /**
+     * Runs {@code onChanged} on the main thread once the sessions of
+     * {@code [startMillis, endMillis)} are in memory, right away if they already are,
+     * and again whenever they change. Replaces the period {@code owner} observed
+     * before, until {@link #stopObserving} is called.
+     */
+    public void observe(Object owner, String userId, long startMillis, long endMillis, Runnable onChanged) {
+        observe(owner, userId, new Observer(startMillis, endMillis, true, onChanged));
+    }
+
+    /**
+     * Like {@link #observe}, for the totals {@link #getSummary} returns instead of the
+     * sessions.
+     */
+    public void observeSummary(Object owner, String userId, long startMillis, long endMillis,
+                               Runnable onChanged) {
+        observe(owner, userId, new Observer(startMillis, endMillis, false, onChanged));
+    }
+
+    /**
+     * Stops running the callback of {@code owner}, e.g. when its view is destroyed.
+     */
+    public void stopObserving(Object owner) {
+        if (observers.remove(owner) != null) {
+            detachUnobserved();
+        }
+    }
+
+    /**
+     * Returns the sessions that started in {@code [startMillis, endMillis)}, oldest
+     * first, or the legacy history of that period if there are none.
+     */
+    public List<WorkoutSession> getSessions(long startMillis, long endMillis) {
+        List<WorkoutSession> result = sessions.between(startMillis, endMillis);
+        return result.isEmpty() ? legacySessions.between(startMillis, endMillis) : result;
+    }
+
+    /**
+     * Returns the totals of the completed sessions that started in
+     * {@code [startMillis, endMillis)}, or of the legacy history if there are none.
+     * The period must be one observed with {@link #observeSummary}.
+     */
+    public ProgressSummary getSummary(long startMillis, long endMillis) {
+        ProgressSummary summary = rollups.get(ProgressRollups.documentsKey(startMillis, endMillis));
+        return summary != null && summary.getWorkouts() > 0
+                ? summary : legacySessions.summarize(startMillis, endMillis);
+    }
+
+    @Override
+    protected void onCleared() {
+        observers.clear();
+        listeners.detachAll();
+    }
+
+    private void observe(Object owner, String userId, Observer observer) {
+        if (!userId.equals(this.userId)) {
+            reset(userId);
+        }
+
+        observers.put(owner, observer);
+        // Attach the new listeners before detaching the old ones, so months both
+        // periods share keep their listener
+        attachListeners();
+        detachUnobserved();
+
+        if (isLoaded(observer)) {
+            observer.onChanged.run();
+        }
+    }
+
+    private void reset(String userId) {
+        observers.clear();
+        listeners.detachAll();
+        this.userId = userId;
+        indexed = false;
+        indexing = false;
+        sessions.replace(Long.MIN_VALUE, Long.MAX_VALUE, new ArrayList<>());
+        legacySessions.replace(Long.MIN_VALUE, Long.MAX_VALUE, new ArrayList<>());
+        rollups.clear();
+        loaded.clear();
+    }
+
+    private boolean isLoaded(Observer observer) {
+        return loaded.containsAll(observer.keys);
+    }
+
+    private void attachListeners() {
+        for (Observer observer : observers.values()) {
+            for (long monthStart : observer.months) {
+                if (!listeners.isAttached(HISTORY_LISTENER + monthStart)) {
+                    attachLegacyMonth(monthStart);
+                }
+            }
+        }
+
+        if (!indexed) {
+            // Month queries only find every session, and the rollups only count every
+            // session, once the user's sessions are indexed
+            if (!indexing) {
+                indexing = true;
+                String indexingUserId = userId;
+                WorkoutSessionStore.ensureIndexed(database, indexingUserId, () -> {
+                    if (indexingUserId.equals(userId)) {
+                        indexing = false;
+                        indexed = true;
+                        attachListeners();
+                    }
+                });
+            }
+            return;
+        }
+        for (Observer observer : observers.values()) {
+            if (observer.rollup != null && !listeners.isAttached(ROLLUPS_LISTENER + observer.rollup)) {
+                attachRollups(observer.rollup, observer.startMillis, observer.endMillis);
+            }
+            if (!observer.sessions) {
+                continue;
+            }
+            for (long monthStart : observer.months) {
+                if (!listeners.isAttached(SESSIONS_LISTENER + monthStart)) {
+                    attachMonth(monthStart);
+                }
+            }
+        }
+    }
+
+    private void detachUnobserved() {
+        Set<String> observed = new HashSet<>();
+        for (Observer observer : observers.values()) {
+            observed.addAll(observer.keys);
+        }
+        listeners.retain(observed);
+    }
+
+    // Runs the callbacks of the observers of a listener that have all their data or
+    // whose data failed to load
+    private void dispatch(String key, boolean failed) {
+        for (Observer observer : new ArrayList<>(observers.values())) {
+            if (observer.keys.contains(key) && (failed || isLoaded(observer))) {
+                observer.onChanged.run();
+            }
+        }
+    }
+
+    private void attachMonth(long monthStart) {
+        String loadingUserId = userId;
+        String key = SESSIONS_LISTENER + monthStart;
+        long monthEnd = nextMonth(monthStart);
+        listeners.attach(key, WorkoutSessionStore.sessionsBetween(database, loadingUserId, monthStart, monthEnd),
+                new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                        if (!loadingUserId.equals(userId)) {
+                            return;
+                        }
+                        List<WorkoutSession> monthSessions = new ArrayList<>();
+                        for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
+                            WorkoutSession session = snapshot.getValue(WorkoutSession.class);
+                            if (session != null) {
+                                monthSessions.add(session);
+                            }
+                        }
+                        sessions.replace(monthStart, monthEnd, monthSessions);
+                        loaded.add(key);
+                        dispatch(key, false);
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError databaseError) {
+                        Log.e(TAG, "Failed to load workout sessions: " + databaseError.getMessage());
+                        if (loadingUserId.equals(userId)) {
+                            // The listener is gone, so the next observer of the month attaches a new one
+                            listeners.detach(key);
+                            dispatch(key, true);
+                        }
+                    }
+                });
+    }
+
+    private void attachRollups(String rollup, long startMillis, long endMillis) {
+        String loadingUserId = userId;
+        String key = ROLLUPS_LISTENER + rollup;
+        listeners.attach(key, ProgressRollups.documents(database, loadingUserId, startMillis, endMillis),
+                new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                        if (!loadingUserId.equals(userId)) {
+                            return;
+                        }
+                        rollups.put(rollup, ProgressRollups.read(dataSnapshot));
+                        loaded.add(key);
+                        dispatch(key, false);
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError databaseError) {
+                        Log.e(TAG, "Failed to load progress totals: " + databaseError.getMessage());
+                        if (loadingUserId.equals(userId)) {
+                            listeners.detach(key);
+                            dispatch(key, true);
+                        }
+                    }
+                });
+    }
+
+    private void attachLegacyMonth(long monthStart) {
+        String loadingUserId = userId;
+        String key = HISTORY_LISTENER + monthStart;
+        long monthEnd = nextMonth(monthStart);
+        // Entries are filed under their yyyy-MM-dd date, which sorts in date order
+        Query month = database.child("users").child(loadingUserId).child(HISTORY)
+                .orderByChild("date")
+                .startAt(TimeFormats.day(monthStart))
+                .endAt(TimeFormats.day(monthEnd - 1));
+        listeners.attach(key, month,
+                new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                        if (!loadingUserId.equals(userId)) {
+                            return;
+                        }
+                        List<WorkoutSession> history = new ArrayList<>();
+                        for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
+                            WorkoutSession session = fromLegacy(snapshot, loadingUserId);
+                            if (session != null) {
+                                history.add(session);
+                            }
+                        }
+                        legacySessions.replace(monthStart, monthEnd, history);
+                        loaded.add(key);
+                        dispatch(key, false);
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError databaseError) {
+                        Log.e(TAG, "Failed to load workout history: " + databaseError.getMessage());
+                        if (loadingUserId.equals(userId)) {
+                            listeners.detach(key);
+                            dispatch(key, true);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Converts a legacy {@code workoutHistory} entry, which is filed under its
+     * {@code date}, or returns null if it has none. Older entries name their fields
+     * name/type/duration, newer ones workoutName/workoutType/durationMinutes.
+     */
+    private static WorkoutSession fromLegacy(DataSnapshot snapshot, String userId) {
+        String date = snapshot.child("date").getValue(String.class);
+        long dayStart;
+        try {
+            dayStart = date != null ? TimeFormats.parse(TimeFormats.DAY, date).getTime() : -1;
+        } catch (Exception e) {
+            Log.e(TAG, "Error parsing legacy workout date: " + e.getMessage());
+            return null;
+        }
+        if (dayStart < 0) {
+            return null;
+        }
+
+        // Keep the time of day if the timestamp is on the filed date
+        Long timestamp = snapshot.child("timestamp").getValue(Long.class);
+        long startTimeMillis = timestamp != null && date.equals(TimeFormats.day(timestamp)) ? timestamp : dayStart;
+
+        String name = firstString(snapshot, "name", "workoutName");
+        String type = firstString(snapshot, "type", "workoutType");
+        Integer duration = firstInteger(snapshot, "duration", "durationMinutes");
+        Integer calories = snapshot.child("caloriesBurned").getValue(Integer.class);
+        Boolean completed = snapshot.child("completed").getValue(Boolean.class);
+        return new WorkoutSession(
+                snapshot.getKey(),
+                name != null ? name : "Workout",
+                type != null ? type : "Unknown",
+                startTimeMillis,
+                duration != null ? duration : 30,
+                calories != null ? calories : 0,
+                completed == null || completed,
+                userId
+        );
+    }
+
+    private static String firstString(DataSnapshot snapshot, String field, String alternative) {
+        String value = snapshot.child(field).getValue(String.class);
+        return value != null ? value : snapshot.child(alternative).getValue(String.class);
+    }
+
+    private static Integer firstInteger(DataSnapshot snapshot, String field, String alternative) {
+        Integer value = snapshot.child(field).getValue(Integer.class);
+        return value != null ? value : snapshot.child(alternative).getValue(Integer.class);
+    }
+
+    // Start times of the calendar months that overlap [startMillis, endMillis)
+    private static List<Long> monthsBetween(long startMillis, long endMillis) {
+        Calendar month = Calendar.getInstance();
+        month.setTimeInMillis(startMillis);
+        month.set(Calendar.DAY_OF_MONTH, 1);
+        month.set(Calendar.HOUR_OF_DAY, 0);
+        month.set(Calendar.MINUTE, 0);
+        month.set(Calendar.SECOND, 0);
+        month.set(Calendar.MILLISECOND, 0);
+
+        List<Long> months = new ArrayList<>();
+        while (month.getTimeInMillis() < endMillis) {
+            months.add(month.getTimeInMillis());
+            month.add(Calendar.MONTH, 1);
+        }
+        return months;
+    }
+
+    private static long nextMonth(long monthStart) {
+        Calendar month = Calendar.getInstance();
+        month.setTimeInMillis(monthStart);
+        month.add(Calendar.MONTH, 1);
+        return month.getTimeInMillis();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.utils.TimeFormats;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ServerValue;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Totals of a user's completed workout sessions per day and per month, kept under
+ * {@code users/{uid}/progressRollups/day/{yyyy-MM-dd}} and
+ * {@code users/{uid}/progressRollups/month/{yyyy-MM}}. The Weekly and Monthly progress
+ * tabs read these small documents instead of adding up the sessions every time they
+ * are opened.
+ *
+ * A document holds the total minutes, calories and workouts, the minutes per day under
+ * {@code days} and the workouts per workout type under {@code types}. They are
+ * increased with {@link ServerValue#increment} in the same update that marks a session
+ * completed, see {@link WorkoutSessionStore#completeSession}. Days are those of the
+ * device's time zone when the session started.
+ */
+final class ProgressRollups {
+    private static final String ROLLUPS = "progressRollups";
+    private static final String DAY = "day";
+    private static final String MONTH = "month";
+    private static final String MONTH_KEY = "yyyy-MM";
+
+    private static final String MINUTES = "minutes";
+    private static final String CALORIES = "calories";
+    private static final String WORKOUTS = "workouts";
+    private static final String DAYS = "days";
+    private static final String TYPES = "types";
+
+    private ProgressRollups() {
+    }
+
+    /**
+     * Returns a key naming the documents that cover {@code [startMillis, endMillis)}:
+     * the month document for a calendar month, the day documents otherwise.
+     */
+    static String documentsKey(long startMillis, long endMillis) {
+        if (isCalendarMonth(startMillis, endMillis)) {
+            return MONTH + "/" + TimeFormats.format(MONTH_KEY, startMillis);
+        }
+        return DAY + "/" + TimeFormats.day(startMillis) + "/" + TimeFormats.day(endMillis - 1);
+    }
+
+    /**
+     * Returns the documents that cover {@code [startMillis, endMillis)}, see
+     * {@link #documentsKey}. Day keys sort in date order, so the days are one key range.
+     */
+    static Query documents(DatabaseReference root, String userId, long startMillis, long endMillis) {
+        if (isCalendarMonth(startMillis, endMillis)) {
+            return rollups(root, userId).child(MONTH).orderByKey()
+                    .equalTo(TimeFormats.format(MONTH_KEY, startMillis));
+        }
+        return rollups(root, userId).child(DAY).orderByKey()
+                .startAt(TimeFormats.day(startMillis))
+                .endAt(TimeFormats.day(endMillis - 1));
+    }
+
+    /**
+     * Adds up the documents returned by a {@link #documents} query.
+     */
+    static ProgressSummary read(DataSnapshot documents) {
+        int minutes = 0;
+        int calories = 0;
+        int workouts = 0;
+        Map<String, Integer> minutesByDay = new HashMap<>();
+        Map<String, Integer> workoutsByType = new HashMap<>();
+        for (DataSnapshot document : documents.getChildren()) {
+            minutes += intValue(document.child(MINUTES));
+            calories += intValue(document.child(CALORIES));
+            workouts += intValue(document.child(WORKOUTS));
+            addValues(minutesByDay, document.child(DAYS));
+            addValues(workoutsByType, document.child(TYPES));
+        }
+        return new ProgressSummary(minutes, calories, workouts, minutesByDay, workoutsByType);
+    }
+
+    /**
+     * Adds the increments for one completed session to a multi-path update of the
+     * database root.
+     */
+    static void addCompletedSession(Map<String, Object> update, String userId, long startTimeMillis,
+                                    int minutes, int calories, String workoutType) {
+        String day = TimeFormats.day(startTimeMillis);
+        String month = TimeFormats.format(MONTH_KEY, startTimeMillis);
+        for (String document : new String[]{DAY + "/" + day, MONTH + "/" + month}) {
+            String path = rollupsPath(userId) + "/" + document + "/";
+            update.put(path + MINUTES, ServerValue.increment(minutes));
+            update.put(path + CALORIES, ServerValue.increment(calories));
+            update.put(path + WORKOUTS, ServerValue.increment(1));
+            update.put(path + DAYS + "/" + day, ServerValue.increment(minutes));
+            if (workoutType != null) {
+                update.put(path + TYPES + "/" + typeKey(workoutType), ServerValue.increment(1));
+            }
+        }
+    }
+
+    /**
+     * Adds the rollups computed from all of a user's sessions to a multi-path update,
+     * replacing the existing ones. Used once for the sessions saved before rollups
+     * were kept.
+     */
+    static void addAllSessions(Map<String, Object> update, String userId, Iterable<DataSnapshot> sessions) {
+        Map<String, Object> rollups = new HashMap<>();
+        for (DataSnapshot session : sessions) {
+            Boolean completed = session.child("completed").getValue(Boolean.class);
+            Long startTimeMillis = session.child("startTimeMillis").getValue(Long.class);
+            if (completed == null || !completed || startTimeMillis == null || startTimeMillis <= 0) {
+                continue;
+            }
+            Integer minutes = session.child("durationMinutes").getValue(Integer.class);
+            Integer calories = session.child("caloriesBurned").getValue(Integer.class);
+            String workoutType = session.child("workoutType").getValue(String.class);
+
+            String day = TimeFormats.day(startTimeMillis);
+            String month = TimeFormats.format(MONTH_KEY, startTimeMillis);
+            add(nested(nested(rollups, DAY), day), day, minutes, calories, workoutType);
+            add(nested(nested(rollups, MONTH), month), day, minutes, calories, workoutType);
+        }
+        update.put(rollupsPath(userId), rollups);
+    }
+
+    private static void add(Map<String, Object> document, String day, Integer minutes, Integer calories,
+                            String workoutType) {
+        int sessionMinutes = minutes != null ? minutes : 0;
+        increase(document, MINUTES, sessionMinutes);
+        increase(document, CALORIES, calories != null ? calories : 0);
+        increase(document, WORKOUTS, 1);
+        increase(nested(document, DAYS), day, sessionMinutes);
+        if (workoutType != null) {
+            increase(nested(document, TYPES), typeKey(workoutType), 1);
+        }
+    }
+
+    private static void increase(Map<String, Object> values, String key, int amount) {
+        Object value = values.get(key);
+        values.put(key, (value != null ? (Integer) value : 0) + amount);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> nested(Map<String, Object> values, String key) {
+        Map<String, Object> child = (Map<String, Object>) values.get(key);
+        if (child == null) {
+            child = new HashMap<>();
+            values.put(key, child);
+        }
+        return child;
+    }
+
+    private static int intValue(DataSnapshot snapshot) {
+        Long value = snapshot.getValue(Long.class);
+        return value != null ? value.intValue() : 0;
+    }
+
+    private static void addValues(Map<String, Integer> values, DataSnapshot snapshot) {
+        for (DataSnapshot child : snapshot.getChildren()) {
+            Integer value = values.get(child.getKey());
+            values.put(child.getKey(), (value != null ? value : 0) + intValue(child));
+        }
+    }
+
+    private static boolean isCalendarMonth(long startMillis, long endMillis) {
+        Calendar month = Calendar.getInstance();
+        month.setTimeInMillis(startMillis);
+        if (month.get(Calendar.DAY_OF_MONTH) != 1 || month.get(Calendar.HOUR_OF_DAY) != 0
+                || month.get(Calendar.MINUTE) != 0 || month.get(Calendar.SECOND) != 0
+                || month.get(Calendar.MILLISECOND) != 0) {
+            return false;
+        }
+        month.add(Calendar.MONTH, 1);
+        return month.getTimeInMillis() == endMillis;
+    }
+
+    // Database keys cannot contain . # $ [ ] or /
+    private static String typeKey(String workoutType) {
+        return workoutType.replaceAll("[.#$\\[\\]/]", "_");
+    }
+
+    private static DatabaseReference rollups(DatabaseReference root, String userId) {
+        return root.child("users").child(userId).child(ROLLUPS);
+    }
+
+    private static String rollupsPath(String userId) {
+        return "users/" + userId + "/" + ROLLUPS;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.utils.TimeFormats;
+
+import java.util.Map;
+
+/**
+ * Totals of the completed workout sessions of a day, week or month.
+ */
+public final class ProgressSummary {
+    private final int minutes;
+    private final int calories;
+    private final int workouts;
+    private final Map<String, Integer> minutesByDay;
+    private final Map<String, Integer> workoutsByType;
+
+    ProgressSummary(int minutes, int calories, int workouts,
+                    Map<String, Integer> minutesByDay, Map<String, Integer> workoutsByType) {
+        this.minutes = minutes;
+        this.calories = calories;
+        this.workouts = workouts;
+        this.minutesByDay = minutesByDay;
+        this.workoutsByType = workoutsByType;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public int getCalories() {
+        return calories;
+    }
+
+    public int getWorkouts() {
+        return workouts;
+    }
+
+    /**
+     * Returns the workout minutes by {@link TimeFormats#DAY} key.
+     */
+    public Map<String, Integer> getMinutesByDay() {
+        return minutesByDay;
+    }
+
+    public Map<String, Integer> getWorkoutsByType() {
+        return workoutsByType;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.flextrack_ianation.services;
+
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Realtime listeners attached to database queries, at most one per key. Keeps the
+ * query of every listener so it can be removed again once nothing shows its data.
+ */
+final class QueryListeners {
+    private static final class Attached {
+        final Query query;
+        final ValueEventListener listener;
+
+        Attached(Query query, ValueEventListener listener) {
+            this.query = query;
+            this.listener = listener;
+        }
+    }
+
+    private final Map<String, Attached> attached = new HashMap<>();
+
+    boolean isAttached(String key) {
+        return attached.containsKey(key);
+    }
+
+    /**
+     * Attaches {@code listener} to {@code query}, unless a listener is already
+     * attached under the same key.
+     */
+    void attach(String key, Query query, ValueEventListener listener) {
+        if (attached.containsKey(key)) {
+            return;
+        }
+        query.addValueEventListener(listener);
+        attached.put(key, new Attached(query, listener));
+    }
+
+    void detach(String key) {
+        Attached listener = attached.remove(key);
+        if (listener != null) {
+            listener.query.removeEventListener(listener.listener);
+        }
+    }
+
+    /**
+     * Detaches every listener whose key is not in {@code keys}.
+     */
+    void retain(Set<String> keys) {
+        Iterator<Map.Entry<String, Attached>> listeners = attached.entrySet().iterator();
+        while (listeners.hasNext()) {
+            Map.Entry<String, Attached> listener = listeners.next();
+            if (!keys.contains(listener.getKey())) {
+                listener.getValue().query.removeEventListener(listener.getValue().listener);
+                listeners.remove();
+            }
+        }
+    }
+
+    void detachAll() {
+        for (Attached listener : attached.values()) {
+            listener.query.removeEventListener(listener.listener);
+        }
+        attached.clear();
+    }
+}
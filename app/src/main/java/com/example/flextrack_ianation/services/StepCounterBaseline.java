@@ -0,0 +1,157 @@
+package com.example.flextrack_ianation.services;
+
+import android.content.SharedPreferences;
+
+import java.util.TimeZone;
+
+/**
+ * Tracks the last value seen from the hardware step counter so that deltas survive
+ * service restarts, long background gaps and reboots.
+ *
+ * The baseline stores the counter value together with the wall clock time,
+ * {@code SystemClock.elapsedRealtime()} and the device boot count of the reading.
+ * A reboot is detected from a changed boot count, or from the elapsed realtime or
+ * counter going backwards when the boot count is not available. After a reboot the
+ * counter restarts from zero, so its value is exactly the number of steps taken
+ * since boot.
+ *
+ * Steps found between two readings are spread over the days they cover in
+ * proportion to the time spent in each day, instead of being dropped or all
+ * credited to today.
+ */
+public class StepCounterBaseline {
+    private static final String KEY_VALUE = "counter_baseline_value";
+    private static final String KEY_WALL_TIME = "counter_baseline_wall_time";
+    private static final String KEY_ELAPSED = "counter_baseline_elapsed";
+    private static final String KEY_BOOT_COUNT = "counter_baseline_boot_count";
+
+    private static final long DAY_MS = 24 * 60 * 60 * 1000L;
+
+    /**
+     * Receives the steps attributed to one local day.
+     */
+    public interface DayStepsCallback {
+        /**
+         * @param timeInDayMillis a wall clock time inside the day the steps belong to
+         * @param steps number of steps for that day
+         * @param isToday true if the day is the day of the current reading
+         */
+        void onDaySteps(long timeInDayMillis, int steps, boolean isToday);
+    }
+
+    private boolean hasBaseline;
+    private int lastValue;
+    private long lastWallTime;
+    private long lastElapsed;
+    private int lastBootCount;
+
+    public StepCounterBaseline(SharedPreferences prefs) {
+        hasBaseline = prefs.contains(KEY_VALUE);
+        lastValue = prefs.getInt(KEY_VALUE, 0);
+        lastWallTime = prefs.getLong(KEY_WALL_TIME, 0);
+        lastElapsed = prefs.getLong(KEY_ELAPSED, 0);
+        lastBootCount = prefs.getInt(KEY_BOOT_COUNT, -1);
+    }
+
+    /**
+     * Processes a new counter value and reports the steps taken since the previous
+     * one through the callback.
+     *
+     * @param bootCount the device boot count, or -1 if unknown
+     * @return the total number of new steps
+     */
+    public int onCounterValue(int counterValue, long wallNow, long elapsedNow, int bootCount,
+                              DayStepsCallback callback) {
+        if (!hasBaseline) {
+            // First reading ever, nothing to compare against yet
+            remember(counterValue, wallNow, elapsedNow, bootCount);
+            return 0;
+        }
+
+        boolean rebooted;
+        if (bootCount >= 0 && lastBootCount >= 0) {
+            rebooted = bootCount != lastBootCount;
+        } else {
+            rebooted = elapsedNow < lastElapsed;
+        }
+        // The counter only goes backwards when the sensor was reset, treat it like a reboot
+        rebooted |= counterValue < lastValue;
+
+        int steps;
+        long fromWallTime;
+        if (rebooted) {
+            // Every step on the counter was taken after boot
+            steps = counterValue;
+            fromWallTime = Math.max(lastWallTime, wallNow - elapsedNow);
+        } else {
+            steps = counterValue - lastValue;
+            fromWallTime = lastWallTime;
+        }
+
+        remember(counterValue, wallNow, elapsedNow, bootCount);
+
+        if (steps > 0) {
+            attribute(steps, fromWallTime, wallNow, callback);
+        }
+        return Math.max(steps, 0);
+    }
+
+    /**
+     * Writes the baseline into the given editor, so it is persisted in the same
+     * commit as the step counts derived from it.
+     */
+    public void save(SharedPreferences.Editor editor) {
+        if (!hasBaseline) {
+            return;
+        }
+        editor.putInt(KEY_VALUE, lastValue);
+        editor.putLong(KEY_WALL_TIME, lastWallTime);
+        editor.putLong(KEY_ELAPSED, lastElapsed);
+        editor.putInt(KEY_BOOT_COUNT, lastBootCount);
+    }
+
+    /**
+     * Splits steps taken between two wall clock times over the local days in that
+     * range, proportionally to the time spent in each day. Rounding leftovers go to
+     * the last day so the parts always add up to the total.
+     */
+    static void attribute(int steps, long fromWallTime, long toWallTime, DayStepsCallback callback) {
+        long span = toWallTime - fromWallTime;
+        if (span <= 0) {
+            callback.onDaySteps(toWallTime, steps, true);
+            return;
+        }
+
+        int remaining = steps;
+        long segmentStart = fromWallTime;
+        while (true) {
+            long nextMidnight = nextLocalMidnight(segmentStart);
+            if (nextMidnight >= toWallTime) {
+                callback.onDaySteps(toWallTime, remaining, true);
+                return;
+            }
+
+            int segmentSteps = (int) (steps * (nextMidnight - segmentStart) / span);
+            if (segmentSteps > 0) {
+                callback.onDaySteps(nextMidnight - 1, segmentSteps, false);
+                remaining -= segmentSteps;
+            }
+            segmentStart = nextMidnight;
+        }
+    }
+
+    private static long nextLocalMidnight(long wallTime) {
+        TimeZone timeZone = TimeZone.getDefault();
+        long localDay = (wallTime + timeZone.getOffset(wallTime)) / DAY_MS;
+        long localMidnight = (localDay + 1) * DAY_MS;
+        return localMidnight - timeZone.getOffset(localMidnight - timeZone.getOffset(wallTime));
+    }
+
+    private void remember(int counterValue, long wallNow, long elapsedNow, int bootCount) {
+        hasBaseline = true;
+        lastValue = counterValue;
+        lastWallTime = wallNow;
+        lastElapsed = elapsedNow;
+        lastBootCount = bootCount;
+    }
+}
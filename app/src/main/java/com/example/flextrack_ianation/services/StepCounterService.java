@@ -1,6 +1,5 @@
 package com.example.flextrack_ianation.services;
 
-import android.app.Notification;
 import android.app.NotificationChannel;
 import android.app.NotificationManager;
 import android.app.PendingIntent;
@@ -10,24 +9,34 @@ import android.content.Intent;
 import android.content.SharedPreferences;
 import android.hardware.Sensor;
 import android.hardware.SensorEvent;
-import android.hardware.SensorEventListener;
+import android.hardware.SensorEventListener2;
 import android.hardware.SensorManager;
+import android.hardware.TriggerEvent;
+import android.hardware.TriggerEventListener;
 import android.os.Binder;
 import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
+import android.os.Looper;
 import android.os.PowerManager;
+import android.os.Process;
+import android.os.SystemClock;
+import android.provider.Settings;
+import android.text.TextUtils;
 import android.util.Log;
 
-import androidx.core.app.NotificationCompat;
-
 import com.example.flextrack_ianation.R;
 import com.example.flextrack_ianation.StepsCounterActivity;
+import com.example.flextrack_ianation.utils.TimeFormats;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-public class StepCounterService extends Service implements SensorEventListener {
+public class StepCounterService extends Service implements SensorEventListener2 {
     private static final String TAG = "StepCounterService";
     private static final String CHANNEL_ID = "step_counter_channel";
     private static final int NOTIFICATION_ID = 1001;
@@ -43,16 +52,24 @@ public class StepCounterService extends Service implements SensorEventListener {
     public static final String KEY_DAILY_STEPS = "daily_steps";
     public static final String KEY_DAILY_GOAL = "daily_goal";
     public static final String KEY_LAST_SAVED_DAY = "last_saved_day";
+    public static final String KEY_VISIBLE_LATENCY_MS = "visible_report_latency_ms";
+    public static final String KEY_BACKGROUND_LATENCY_MS = "background_report_latency_ms";
+    public static final String KEY_PROFILE_HEIGHT = "profile_height_cm";
+    public static final String KEY_PROFILE_WEIGHT = "profile_weight_kg";
+    public static final String KEY_PROFILE_GENDER = "profile_gender";
+    
+    // How long sensor events may wait in the hardware FIFO before being delivered.
+    // Short while the step screen is visible, long when nobody is looking.
+    private static final long DEFAULT_VISIBLE_LATENCY_MS = 1_000;
+    private static final long DEFAULT_BACKGROUND_LATENCY_MS = 60_000;
     
-    // Average stride length in meters by height (can be personalized)
-    private static final float DEFAULT_STRIDE_LENGTH = 0.75f;
-    // Average calories burned per step (can be adjusted by weight)
-    private static final float CALORIES_PER_STEP = 0.04f;
+    // Cadence is measured over windows of at least this long
+    private static final long CADENCE_WINDOW_NS = 5_000_000_000L;
+    // Longer gaps between steps mean the user stopped, start a new window
+    private static final long CADENCE_MAX_GAP_NS = 60_000_000_000L;
     
-    // Sensitivity for step detection from accelerometer
-    private static final float STEP_THRESHOLD = 12.0f;
-    // Minimum time between steps in milliseconds
-    private static final long MIN_TIME_BETWEEN_STEPS_MS = 250;
+    // Accelerometer rate while idle, enough to notice movement but not to count steps
+    private static final int IDLE_SAMPLING_PERIOD_US = 200_000;
     
     private SensorManager sensorManager;
     private Sensor stepSensor;
@@ -61,20 +78,142 @@ public class StepCounterService extends Service implements SensorEventListener {
     private boolean hasStepCounter;
     private PowerManager.WakeLock wakeLock;
     
+    // Sensor callbacks, filtering and metric accumulation run on this thread. The
+    // counting state below is only touched from it, other threads read snapshots.
+    private HandlerThread sensorThread;
+    private Handler sensorHandler;
+    
     // Step tracking variables
     private int currentSteps = 0;      // Steps in current session (resets with Reset button)
-    private int previousStepCount = 0;
     private int totalSteps = 0;        // Total steps from hardware counter (never resets)
     private int dailySteps = 0;
     private int dailyGoal = 10000;
-    private long lastStepTimestamp = 0;
-    private float[] gravity = new float[3];
-    private float[] linear_acceleration = new float[3];
+    private float caloriesBurned = 0f;  // Session calories, kept in memory and persisted in batches
+    private float distanceTraveled = 0f; // Session distance in meters, persisted in batches
+    
+    // Personal stride and calorie model, rebuilt only when the cached profile changes
+    private volatile StepMetricsModel metricsModel = StepMetricsModel.DEFAULT;
+    private float cadence = StepMetricsModel.DEFAULT_CADENCE;
+    private long cadenceWindowStartNs = -1;
+    private long lastStepTimeNs = -1;
+    private int cadenceWindowSteps = 0;
+    private final SharedPreferences.OnSharedPreferenceChangeListener profileListener = 
+            new SharedPreferences.OnSharedPreferenceChangeListener() {
+        @Override
+        public void onSharedPreferenceChanged(SharedPreferences prefs, String key) {
+            if (KEY_PROFILE_HEIGHT.equals(key) || KEY_PROFILE_WEIGHT.equals(key) 
+                    || KEY_PROFILE_GENDER.equals(key)) {
+                metricsModel = loadMetricsModel(prefs);
+                Log.d(TAG, "Health profile changed, stride is now " + metricsModel.getStrideLength() + " m");
+            }
+        }
+    };
+    
+    // Software step detection used when there is no hardware step counter
+    private final StepDetector stepDetector = new PeakValleyStepDetector();
+    
+    // Drops the accelerometer to a low rate, or off behind the significant motion
+    // trigger, while the user is stationary
+    private final AdaptiveSamplingController samplingController = new AdaptiveSamplingController();
+    private boolean waitingForMotionTrigger = false;
+    private final TriggerEventListener significantMotionListener = new TriggerEventListener() {
+        @Override
+        public void onTrigger(TriggerEvent event) {
+            // Delivered on the main thread, the sampling state belongs to the sensor thread
+            sensorHandler.post(() -> {
+                waitingForMotionTrigger = false;
+                if (isTracking && samplingController.isIdle()) {
+                    Log.d(TAG, "Significant motion, back to full-rate sampling");
+                    wakeUpSampling();
+                }
+            });
+        }
+    };
     
     // Tracking state
-    private boolean isTracking = false;
+    private volatile boolean isTracking = false;
+    private volatile boolean destroyed = false;
     private long startTime = 0;
     
+    // Sensor batching state
+    private boolean uiVisible = false;
+    private long visibleLatencyMs = DEFAULT_VISIBLE_LATENCY_MS;
+    private long backgroundLatencyMs = DEFAULT_BACKGROUND_LATENCY_MS;
+    private boolean latencyChangePending = false;
+    private boolean batchUpdatePending = false;
+    private final Runnable batchUpdateRunnable = new Runnable() {
+        @Override
+        public void run() {
+            batchUpdatePending = false;
+            publishSnapshot();
+        }
+    };
+    
+    // Lock-free handoff to the main thread: the sensor thread swaps in a new snapshot
+    // and queues at most one UI update, which always reads the newest snapshot
+    private final AtomicReference<StepSnapshot> latestSnapshot = 
+            new AtomicReference<>(StepSnapshot.EMPTY);
+    private final AtomicBoolean uiUpdatePending = new AtomicBoolean(false);
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable uiUpdateRunnable = new Runnable() {
+        @Override
+        public void run() {
+            uiUpdatePending.set(false);
+            if (destroyed) {
+                return;
+            }
+            
+            StepSnapshot snapshot = latestSnapshot.get();
+            stepUpdatePublisher.publish(snapshot.getSessionSteps(), snapshot.getTotalSteps(),
+                    snapshot.getDailySteps(), snapshot.getDailyGoal(), snapshot.getStartTime(),
+                    snapshot.getCaloriesBurned(), snapshot.getDistanceTraveled());
+            
+            // The scheduler skips the post if the text is unchanged and rate-limits the rest
+            if (isTracking) {
+                notificationScheduler.showProgress(snapshot.getTotalSteps(),
+                        snapshot.getSessionSteps(), snapshot.getCaloriesBurned());
+            }
+        }
+    };
+    
+    // Posts the ongoing notification only when its text changes
+    private StepNotificationScheduler notificationScheduler;
+    
+    // Rate-limited step stream for bound clients
+    private final StepUpdatePublisher stepUpdatePublisher = new StepUpdatePublisher();
+    
+    // Per-minute step history, written off the sensor thread
+    private StepHistoryDatabase stepHistory;
+    private ExecutorService historyExecutor;
+    private long historyMinute = -1;
+    private int historyMinuteSteps = 0;
+    
+    // Last hardware counter reading, survives restarts and reboots
+    private StepCounterBaseline stepBaseline;
+    // Settings.Global.BOOT_COUNT, tells the baseline whether the counter was reset by a reboot
+    private int bootCount;
+    // The first counter reading after (re)registering covers time outside the session
+    private boolean awaitingFirstReading = true;
+    private final StepCounterBaseline.DayStepsCallback dayStepsCallback = 
+            new StepCounterBaseline.DayStepsCallback() {
+        @Override
+        public void onDaySteps(long timeInDayMillis, int steps, boolean isToday) {
+            if (isToday) {
+                addTodaySteps(steps, System.currentTimeMillis());
+            } else {
+                // Steps from a previous day go straight into that day's history
+                final long minute = StepHistoryDatabase.minuteKey(timeInDayMillis);
+                historyExecutor.execute(() -> {
+                    stepHistory.addSteps(minute, steps);
+                    stepHistory.compact(System.currentTimeMillis());
+                });
+            }
+        }
+    };
+    
+    // Decides when in-memory step data is written back to SharedPreferences
+    private StepPersistencePolicy persistencePolicy;
+    
     // Binder for activity communication
     private final IBinder binder = new StepBinder();
     
@@ -89,13 +228,24 @@ public class StepCounterService extends Service implements SensorEventListener {
         super.onCreate();
         sensorManager = (SensorManager) getSystemService(Context.SENSOR_SERVICE);
         
+        // Keep sensor processing off the main thread
+        sensorThread = new HandlerThread("StepCounterSensors", Process.THREAD_PRIORITY_BACKGROUND);
+        sensorThread.start();
+        sensorHandler = new Handler(sensorThread.getLooper());
+        
         // Check for step counter sensor
         stepSensor = sensorManager.getDefaultSensor(Sensor.TYPE_STEP_COUNTER);
         hasStepCounter = (stepSensor != null);
+        // A reboot always starts a new process, so the boot count is read once
+        bootCount = Settings.Global.getInt(getContentResolver(), Settings.Global.BOOT_COUNT, -1);
         
-        // If no step counter, use accelerometer
+        // If no step counter, use accelerometer (prefer the wake-up variant so a full
+        // FIFO wakes the CPU instead of dropping samples)
         if (!hasStepCounter) {
-            accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
+            accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER, true);
+            if (accelerometer == null) {
+                accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
+            }
             if (accelerometer == null) {
                 Log.e(TAG, "No step counter or accelerometer found on this device");
             } else {
@@ -108,57 +258,79 @@ public class StepCounterService extends Service implements SensorEventListener {
         // Get significant motion sensor for power efficiency
         significantMotionSensor = sensorManager.getDefaultSensor(Sensor.TYPE_SIGNIFICANT_MOTION);
         
-        // Acquire partial wake lock to ensure service keeps running
+        // The notification builder and its PendingIntent are created once and reused
+        Intent notificationIntent = new Intent(this, StepsCounterActivity.class);
+        PendingIntent pendingIntent = PendingIntent.getActivity(
+                this, 0, notificationIntent, 
+                PendingIntent.FLAG_IMMUTABLE
+        );
+        notificationScheduler = new StepNotificationScheduler(this, CHANNEL_ID, NOTIFICATION_ID, pendingIntent);
+        
+        // Partial wake lock, only held when the sensors cannot batch on their own
         PowerManager powerManager = (PowerManager) getSystemService(POWER_SERVICE);
         wakeLock = powerManager.newWakeLock(PowerManager.PARTIAL_WAKE_LOCK, 
                 "FlexTrack:StepCounterWakeLock");
         
+        // Open the step history and fold any finished days into daily buckets
+        stepHistory = StepHistoryDatabase.getInstance(this);
+        historyExecutor = Executors.newSingleThreadExecutor();
+        final long now = System.currentTimeMillis();
+        historyExecutor.execute(() -> stepHistory.compact(now));
+        
         // Restore saved data
+        persistencePolicy = new StepPersistencePolicy(System.currentTimeMillis());
         loadData();
         
+        // Rebuild the metrics model whenever the cached health profile changes
+        getSharedPreferences(PREFS_NAME, MODE_PRIVATE)
+                .registerOnSharedPreferenceChangeListener(profileListener);
+        
         // Check if day has changed and reset daily counters if needed
         checkAndResetDailyCounters();
+        
+        // The sensor thread has not touched anything yet, so this is safe here
+        latestSnapshot.set(createSnapshot());
     }
     
     @Override
     public int onStartCommand(Intent intent, int flags, int startId) {
         createNotificationChannel();
-        startForeground(NOTIFICATION_ID, buildNotification());
-        
-        if (!wakeLock.isHeld()) {
-            wakeLock.acquire();
-        }
-        
-        // Always reset the current session steps to 0 when starting
-        currentSteps = 0;
-        startTime = System.currentTimeMillis();
-        
-        // Reset session metrics (calories and distance)
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        SharedPreferences.Editor editor = prefs.edit();
-        editor.putFloat(KEY_CALORIES, 0f);
-        editor.putFloat(KEY_DISTANCE, 0f);
-        
-        // Clear any pause time and ensure tracking is enabled
-        editor.putLong("pause_time", 0);
-        editor.putBoolean(KEY_IS_TRACKING, true);
-        
-        editor.apply();
-        
-        // Register sensors based on availability
-        if (hasStepCounter) {
-            sensorManager.registerListener(this, stepSensor, SensorManager.SENSOR_DELAY_NORMAL);
-        } else if (accelerometer != null) {
-            sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME);
-        }
+        startForeground(NOTIFICATION_ID, 
+                notificationScheduler.buildProgress(latestSnapshot.get().getTotalSteps(), 0, 0f));
         
         isTracking = true;
         
-        // Save current state
-        saveData();
-        
-        // Broadcast update with the reset session values
-        broadcastStepUpdate();
+        // The session is reset on the sensor thread, which owns the counting state
+        sensorHandler.post(() -> {
+            // Always reset the current session steps to 0 when starting
+            currentSteps = 0;
+            startTime = System.currentTimeMillis();
+            
+            // Reset session metrics (calories and distance), persisted by saveData() below
+            caloriesBurned = 0f;
+            distanceTraveled = 0f;
+            stepDetector.reset();
+            
+            // Clear any pause time and ensure tracking is enabled
+            SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+            SharedPreferences.Editor editor = prefs.edit();
+            editor.putLong("pause_time", 0);
+            editor.putBoolean(KEY_IS_TRACKING, true);
+            
+            editor.apply();
+            
+            // Register sensors based on availability
+            sensorManager.unregisterListener(this);
+            awaitingFirstReading = true;
+            samplingController.wakeUp();
+            registerSensors();
+            
+            // Save current state
+            saveData();
+            
+            // Publish the reset session values
+            publishSnapshot();
+        });
         
         return START_STICKY;
     }
@@ -167,64 +339,84 @@ public class StepCounterService extends Service implements SensorEventListener {
     public IBinder onBind(Intent intent) {
         // If we were paused, resume tracking
         if (!isTracking) {
-            // Register sensors based on availability
-            if (hasStepCounter) {
-                sensorManager.registerListener(this, stepSensor, SensorManager.SENSOR_DELAY_NORMAL);
-            } else if (accelerometer != null) {
-                sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME);
-            }
-            
             isTracking = true;
             
-            // Get the pause time to adjust the start time accordingly
-            SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-            long pauseTime = prefs.getLong("pause_time", 0);
-            
-            if (pauseTime > 0) {
-                // Calculate how long the session was paused
-                long pauseDuration = System.currentTimeMillis() - pauseTime;
+            sensorHandler.post(() -> {
+                // Register sensors based on availability
+                awaitingFirstReading = true;
+                samplingController.wakeUp();
+                registerSensors();
                 
-                // Adjust start time by adding pause duration to maintain accurate elapsed time
-                startTime += pauseDuration;
+                // Get the pause time to adjust the start time accordingly
+                SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+                long pauseTime = prefs.getLong("pause_time", 0);
                 
-                // Reset pause time
-                SharedPreferences.Editor editor = prefs.edit();
-                editor.putLong("pause_time", 0);
-                editor.putBoolean(KEY_IS_TRACKING, true);
-                editor.apply();
-            }
-            
-            // Save updated state
-            saveData();
-            
-            // Update notification with resumed state
-            NotificationManager notificationManager = 
-                    (NotificationManager) getSystemService(Context.NOTIFICATION_SERVICE);
-            
-            Notification notification = new NotificationCompat.Builder(this, CHANNEL_ID)
-                    .setContentTitle("Step Counting Resumed")
-                    .setContentText("Session: " + currentSteps + " steps")
-                    .setSmallIcon(android.R.drawable.ic_menu_directions)
-                    .setPriority(NotificationCompat.PRIORITY_LOW)
-                    .setOngoing(true)
-                    .build();
-            
-            notificationManager.notify(NOTIFICATION_ID, notification);
-            
-            // Broadcast update
-            broadcastStepUpdate();
+                if (pauseTime > 0) {
+                    // Calculate how long the session was paused
+                    long pauseDuration = System.currentTimeMillis() - pauseTime;
+                    
+                    // Adjust start time by adding pause duration to maintain accurate elapsed time
+                    startTime += pauseDuration;
+                    
+                    // Reset pause time
+                    SharedPreferences.Editor editor = prefs.edit();
+                    editor.putLong("pause_time", 0);
+                    editor.putBoolean(KEY_IS_TRACKING, true);
+                    editor.apply();
+                }
+                
+                // Save updated state
+                saveData();
+                
+                // Update notification with resumed state
+                final int sessionSteps = currentSteps;
+                mainHandler.post(() -> notificationScheduler.showResumed(sessionSteps));
+                
+                publishSnapshot();
+            });
         }
         
         return binder;
     }
     
+    @Override
+    public boolean onUnbind(Intent intent) {
+        // No client left, fall back to the background batching latency
+        setUiVisible(false);
+        
+        // The step screen went away, write out anything still buffered in memory
+        sensorHandler.post(() -> {
+            if (persistencePolicy.hasUnsavedSteps()) {
+                saveData();
+            }
+        });
+        return super.onUnbind(intent);
+    }
+    
     @Override
     public void onDestroy() {
+        destroyed = true;
+        sensorManager.unregisterListener(this);
+        if (significantMotionSensor != null) {
+            sensorManager.cancelTriggerSensor(significantMotionListener, significantMotionSensor);
+        }
+        getSharedPreferences(PREFS_NAME, MODE_PRIVATE)
+                .unregisterOnSharedPreferenceChangeListener(profileListener);
         if (wakeLock.isHeld()) {
             wakeLock.release();
         }
-        saveData();
-        sensorManager.unregisterListener(this);
+        mainHandler.removeCallbacks(uiUpdateRunnable);
+        stepUpdatePublisher.clear();
+        notificationScheduler.cancelPending();
+        
+        // Final save runs after anything the sensor thread still has queued
+        sensorHandler.post(() -> {
+            saveData();
+            
+            // Let queued history writes finish, then stop the worker
+            historyExecutor.shutdown();
+        });
+        sensorThread.quitSafely();
         super.onDestroy();
     }
     
@@ -235,6 +427,8 @@ public class StepCounterService extends Service implements SensorEventListener {
             return;
         }
         
+        int stepsBefore = currentSteps;
+        
         if (event.sensor.getType() == Sensor.TYPE_STEP_COUNTER) {
             // Handle hardware step counter
             processHardwareStepCount(event);
@@ -243,122 +437,255 @@ public class StepCounterService extends Service implements SensorEventListener {
             processSoftwareStepDetection(event);
         }
         
-        // Update notification periodically
-        if (currentSteps % 20 == 0) {
-            updateNotification();
+        if (currentSteps != stepsBefore) {
+            scheduleBatchUpdate();
         }
     }
     
-    private void processHardwareStepCount(SensorEvent event) {
-        int hardwareSteps = (int) event.values[0];
+    @Override
+    public void onFlushCompleted(Sensor sensor) {
+        // The FIFO has been drained, so re-registering can no longer drop batched events
+        if (latencyChangePending) {
+            latencyChangePending = false;
+            sensorManager.unregisterListener(this);
+            registerSensors();
+        }
+        scheduleBatchUpdate();
+    }
+    
+    /**
+     * Batched sensor events are delivered back to back, so instead of publishing
+     * a snapshot for every event, post a single update to the sensor thread that
+     * runs once the whole batch has been processed.
+     */
+    private void scheduleBatchUpdate() {
+        if (!batchUpdatePending) {
+            batchUpdatePending = true;
+            sensorHandler.post(batchUpdateRunnable);
+        }
+    }
+    
+    private void registerSensors() {
+        long latencyMs = uiVisible ? visibleLatencyMs : backgroundLatencyMs;
+        int maxReportLatencyUs = (int) Math.min(Integer.MAX_VALUE, TimeUnit.MILLISECONDS.toMicros(latencyMs));
+        
+        if (hasStepCounter) {
+            sensorManager.registerListener(this, stepSensor, 
+                    SensorManager.SENSOR_DELAY_NORMAL, maxReportLatencyUs, sensorHandler);
+        } else if (accelerometer != null) {
+            cancelMotionTrigger();
+            if (!samplingController.isIdle()) {
+                sensorManager.registerListener(this, accelerometer, 
+                        SensorManager.SENSOR_DELAY_GAME, maxReportLatencyUs, sensorHandler);
+            } else if (significantMotionSensor != null 
+                    && sensorManager.requestTriggerSensor(significantMotionListener, significantMotionSensor)) {
+                // The accelerometer stays off until the trigger fires
+                waitingForMotionTrigger = true;
+            } else {
+                sensorManager.registerListener(this, accelerometer, 
+                        IDLE_SAMPLING_PERIOD_US, maxReportLatencyUs, sensorHandler);
+            }
+        }
+        
+        updateWakeLock();
+    }
+    
+    private void cancelMotionTrigger() {
+        if (waitingForMotionTrigger) {
+            sensorManager.cancelTriggerSensor(significantMotionListener, significantMotionSensor);
+            waitingForMotionTrigger = false;
+        }
+    }
+    
+    /**
+     * Re-registers the accelerometer after the sampling controller changed state.
+     */
+    private void applySamplingRate() {
+        sensorManager.unregisterListener(this, accelerometer);
+        registerSensors();
+    }
+    
+    private void wakeUpSampling() {
+        samplingController.wakeUp();
+        // The detector's filters still hold the state of the idle samples
+        stepDetector.reset();
+        applySamplingRate();
+    }
+    
+    private void updateWakeLock() {
+        // The hardware step counter keeps counting while the CPU sleeps, and a wake-up
+        // accelerometer with a FIFO wakes us before its buffer overflows. Only a plain
+        // accelerometer without batching still needs the CPU held awake, unless it is
+        // switched off behind the significant motion trigger.
+        boolean needsWakeLock = isTracking && !hasStepCounter && accelerometer != null
+                && !waitingForMotionTrigger
+                && !(accelerometer.isWakeUpSensor() && accelerometer.getFifoMaxEventCount() > 0);
         
-        // Store the first reading to calculate delta
-        if (previousStepCount == 0) {
-            previousStepCount = hardwareSteps;
-            totalSteps = hardwareSteps; // Initialize total steps with hardware value
+        if (needsWakeLock && !wakeLock.isHeld()) {
+            wakeLock.acquire();
+        } else if (!needsWakeLock && wakeLock.isHeld()) {
+            wakeLock.release();
+        }
+    }
+    
+    private void applyReportLatency() {
+        if (!isTracking) {
             return;
         }
         
-        // Calculate steps taken since last reading
-        int stepDelta = hardwareSteps - previousStepCount;
+        // Drain what is already batched first, the new latency is applied in onFlushCompleted()
+        latencyChangePending = true;
+        if (!sensorManager.flush(this)) {
+            latencyChangePending = false;
+            sensorManager.unregisterListener(this);
+            registerSensors();
+        }
+    }
+    
+    private void processHardwareStepCount(SensorEvent event) {
+        int hardwareSteps = (int) event.values[0];
+        totalSteps = hardwareSteps; // Total hardware steps
+        
+        // The baseline works out the steps since the last reading, also across reboots,
+        // and hands them out per day through dayStepsCallback
+        int stepDelta = stepBaseline.onCounterValue(hardwareSteps, System.currentTimeMillis(),
+                SystemClock.elapsedRealtime(), bootCount, dayStepsCallback);
+        
+        // Steps from before this reading was requested (service stopped or paused)
+        // count for the day, but not for the current session
+        boolean countsForSession = !awaitingFirstReading;
+        awaitingFirstReading = false;
+        
         if (stepDelta > 0) {
-            // Sometimes when rebooting, the step counter might reset, handle this case
-            if (stepDelta > 1000) {
-                // Likely a device reboot, handle accordingly
-                Log.d(TAG, "Large step delta detected (" + stepDelta + "), possibly from reboot");
-                previousStepCount = hardwareSteps;
-                return;
+            if (countsForSession) {
+                currentSteps += stepDelta;  // Session steps
+                updateMetrics(stepDelta, event.timestamp);
+            } else {
+                Log.d(TAG, stepDelta + " steps taken while not tracking added to daily steps");
+                saveData();
+                // Session steps did not change, so onSensorChanged won't publish the new day total
+                scheduleBatchUpdate();
             }
-            
-            // Update counters
-            currentSteps += stepDelta;  // Session steps
-            dailySteps += stepDelta;
-            totalSteps = hardwareSteps; // Total hardware steps
-            previousStepCount = hardwareSteps;
-            
-            // Update metrics
-            updateMetrics(stepDelta);
-            broadcastStepUpdate();
         }
     }
     
     private void processSoftwareStepDetection(SensorEvent event) {
-        // Apply low-pass filter to isolate gravity
-        final float alpha = 0.8f;
+        if (samplingController.onSample(event.timestamp)) {
+            Log.d(TAG, "Accelerometer samples in the last minute: " 
+                    + samplingController.getSamplesPerMinute(event.timestamp)
+                    + (samplingController.isIdle() ? " (idle)" : ""));
+        }
         
-        gravity[0] = alpha * gravity[0] + (1 - alpha) * event.values[0];
-        gravity[1] = alpha * gravity[1] + (1 - alpha) * event.values[1];
-        gravity[2] = alpha * gravity[2] + (1 - alpha) * event.values[2];
+        if (samplingController.isIdle()) {
+            // Low-rate samples are only checked for movement, not for steps
+            if (samplingController.shouldWakeUp(event.values[0], event.values[1], event.values[2])) {
+                Log.d(TAG, "Movement detected, back to full-rate sampling");
+                wakeUpSampling();
+            }
+            return;
+        }
         
-        // Remove gravity component with high-pass filter
-        linear_acceleration[0] = event.values[0] - gravity[0];
-        linear_acceleration[1] = event.values[1] - gravity[1];
-        linear_acceleration[2] = event.values[2] - gravity[2];
+        // The detector works on the sensor timestamp, so batched samples keep their real spacing
+        if (stepDetector.onSample(event.timestamp, event.values[0], event.values[1], event.values[2])) {
+            samplingController.onStep(event.timestamp);
+            currentSteps++;
+            addTodaySteps(1, System.currentTimeMillis());
+            updateMetrics(1, event.timestamp);
+        } else if (samplingController.shouldGoIdle(event.timestamp)) {
+            Log.d(TAG, "No steps for a while, switching to idle sampling");
+            applySamplingRate();
+        }
+    }
+    
+    private void updateMetrics(int stepDelta, long eventTimeNs) {
+        updateCadence(stepDelta, eventTimeNs);
+        StepMetricsModel model = metricsModel;
         
-        // Calculate acceleration magnitude
-        float accelerationMagnitude = (float) Math.sqrt(
-                linear_acceleration[0] * linear_acceleration[0] +
-                linear_acceleration[1] * linear_acceleration[1] +
-                linear_acceleration[2] * linear_acceleration[2]);
+        // Update calories burned (personalized by weight and current cadence)
+        caloriesBurned += stepDelta * model.getCaloriesPerStep(cadence);
         
-        long currentTime = System.currentTimeMillis();
+        // Update distance traveled (personalized by height)
+        distanceTraveled += stepDelta * model.getStrideLength();
         
-        // Enhanced step detection algorithm
-        if (accelerationMagnitude > STEP_THRESHOLD &&
-            (currentTime - lastStepTimestamp) > MIN_TIME_BETWEEN_STEPS_MS) {
+        // Only write to SharedPreferences once enough steps or time have built up,
+        // instead of rewriting the whole prefs file on every step
+        if (persistencePolicy.onStepsCounted(stepDelta, System.currentTimeMillis())) {
+            saveData();
+        }
+    }
+    
+    /**
+     * Measures steps per minute from sensor timestamps over windows of a few seconds.
+     */
+    private void updateCadence(int stepDelta, long eventTimeNs) {
+        if (lastStepTimeNs < 0 || eventTimeNs - lastStepTimeNs > CADENCE_MAX_GAP_NS) {
+            // First steps after a pause, the time before them says nothing about cadence
+            cadenceWindowStartNs = eventTimeNs;
+            cadenceWindowSteps = 0;
+        } else {
+            cadenceWindowSteps += stepDelta;
+            long windowNs = eventTimeNs - cadenceWindowStartNs;
+            if (windowNs >= CADENCE_WINDOW_NS) {
+                cadence = cadenceWindowSteps * 60_000_000_000f / windowNs;
+                cadenceWindowStartNs = eventTimeNs;
+                cadenceWindowSteps = 0;
+            }
+        }
+        lastStepTimeNs = eventTimeNs;
+    }
+    
+    private void addTodaySteps(int steps, long now) {
+        // Record first, it resets the daily count when the day has rolled over
+        recordHistory(steps, now);
+        dailySteps += steps;
+    }
+    
+    /**
+     * Adds steps to the in-memory bucket of the current minute. A finished minute is
+     * handed to the history database, and the first minute of a new day triggers
+     * compaction of the previous day and resets the daily count.
+     */
+    private void recordHistory(int stepDelta, long now) {
+        long minute = StepHistoryDatabase.minuteKey(now);
+        if (minute != historyMinute) {
+            boolean newDay = historyMinute >= 0 
+                    && StepHistoryDatabase.dayKey(minute * 60_000L) 
+                        != StepHistoryDatabase.dayKey(historyMinute * 60_000L);
             
-            // Validate the step using a pattern recognition algorithm
-            // Here we simply use a time-based approach, but this could be enhanced
-            // with more sophisticated pattern recognition
+            flushHistory();
+            historyMinute = minute;
             
-            currentSteps++;
-            dailySteps++;
-            lastStepTimestamp = currentTime;
-            updateMetrics(1);
-            broadcastStepUpdate();
+            if (newDay) {
+                Log.d(TAG, "New day detected. Resetting daily step count");
+                dailySteps = 0;
+                historyExecutor.execute(() -> stepHistory.compact(now));
+            }
         }
+        historyMinuteSteps += stepDelta;
     }
     
-    private void updateMetrics(int stepDelta) {
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        
-        // Update calories burned (can be personalized based on user's weight)
-        float calories = prefs.getFloat(KEY_CALORIES, 0f);
-        calories += stepDelta * CALORIES_PER_STEP;
-        
-        // Update distance traveled (can be personalized based on user's height)
-        float distance = prefs.getFloat(KEY_DISTANCE, 0f);
-        distance += stepDelta * DEFAULT_STRIDE_LENGTH;
-        
-        // Save updated metrics
-        SharedPreferences.Editor editor = prefs.edit();
-        editor.putFloat(KEY_CALORIES, calories);
-        editor.putFloat(KEY_DISTANCE, distance);
-        editor.putInt(KEY_STEP_COUNT, currentSteps);
-        editor.putInt(KEY_DAILY_STEPS, dailySteps);
-        editor.apply();
+    private void flushHistory() {
+        if (historyMinuteSteps > 0) {
+            final long minute = historyMinute;
+            final int steps = historyMinuteSteps;
+            historyExecutor.execute(() -> stepHistory.addSteps(minute, steps));
+            historyMinuteSteps = 0;
+        }
     }
     
-    private void broadcastStepUpdate() {
-        Intent intent = new Intent("STEP_COUNTER_UPDATE");
-        intent.putExtra("steps", currentSteps);         // Session steps
-        intent.putExtra("totalSteps", totalSteps);      // Total hardware steps
-        intent.putExtra("dailySteps", dailySteps);
-        intent.putExtra("dailyGoal", dailyGoal);
-        
-        // Calculate elapsed time
-        long elapsedTimeMillis = System.currentTimeMillis() - startTime;
-        intent.putExtra("time", elapsedTimeMillis);
-        
-        // Get updated metrics
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        float calories = prefs.getFloat(KEY_CALORIES, 0f);
-        float distance = prefs.getFloat(KEY_DISTANCE, 0f);
-        
-        intent.putExtra("calories", calories);
-        intent.putExtra("distance", distance);
-        
-        sendBroadcast(intent);
+    private StepSnapshot createSnapshot() {
+        return new StepSnapshot(currentSteps, totalSteps, dailySteps, dailyGoal,
+                startTime, caloriesBurned, distanceTraveled);
+    }
+    
+    /**
+     * Hands the current state to the main thread. Called on the sensor thread.
+     */
+    private void publishSnapshot() {
+        latestSnapshot.set(createSnapshot());
+        if (uiUpdatePending.compareAndSet(false, true)) {
+            mainHandler.post(uiUpdateRunnable);
+        }
     }
     
     @Override
@@ -384,33 +711,6 @@ public class StepCounterService extends Service implements SensorEventListener {
         }
     }
     
-    private Notification buildNotification() {
-        Intent notificationIntent = new Intent(this, StepsCounterActivity.class);
-        PendingIntent pendingIntent = PendingIntent.getActivity(
-                this, 0, notificationIntent, 
-                PendingIntent.FLAG_IMMUTABLE
-        );
-        
-        // Get session metrics
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        float calories = prefs.getFloat(KEY_CALORIES, 0f);
-        
-        return new NotificationCompat.Builder(this, CHANNEL_ID)
-                .setContentTitle("Total Steps: " + totalSteps)
-                .setContentText("Session: " + currentSteps + " steps • " + String.format("%.1f", calories) + " kcal")
-                .setSmallIcon(android.R.drawable.ic_menu_directions)
-                .setContentIntent(pendingIntent)
-                .setPriority(NotificationCompat.PRIORITY_LOW)
-                .setOngoing(true)
-                .build();
-    }
-    
-    private void updateNotification() {
-        NotificationManager notificationManager = 
-                (NotificationManager) getSystemService(Context.NOTIFICATION_SERVICE);
-        notificationManager.notify(NOTIFICATION_ID, buildNotification());
-    }
-    
     private void loadData() {
         SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
         currentSteps = prefs.getInt(KEY_STEP_COUNT, 0);
@@ -418,7 +718,19 @@ public class StepCounterService extends Service implements SensorEventListener {
         dailyGoal = prefs.getInt(KEY_DAILY_GOAL, 10000);
         startTime = prefs.getLong(KEY_START_TIME, 0);
         isTracking = prefs.getBoolean(KEY_IS_TRACKING, false);
-        previousStepCount = currentSteps; // Initialize with the last saved value
+        caloriesBurned = prefs.getFloat(KEY_CALORIES, 0f);
+        distanceTraveled = prefs.getFloat(KEY_DISTANCE, 0f);
+        visibleLatencyMs = prefs.getLong(KEY_VISIBLE_LATENCY_MS, DEFAULT_VISIBLE_LATENCY_MS);
+        backgroundLatencyMs = prefs.getLong(KEY_BACKGROUND_LATENCY_MS, DEFAULT_BACKGROUND_LATENCY_MS);
+        stepBaseline = new StepCounterBaseline(prefs);
+        metricsModel = loadMetricsModel(prefs);
+    }
+    
+    private static StepMetricsModel loadMetricsModel(SharedPreferences prefs) {
+        return StepMetricsModel.fromProfile(
+                prefs.getFloat(KEY_PROFILE_HEIGHT, 0f),
+                prefs.getFloat(KEY_PROFILE_WEIGHT, 0f),
+                prefs.getString(KEY_PROFILE_GENDER, null));
     }
     
     private void saveData() {
@@ -429,13 +741,21 @@ public class StepCounterService extends Service implements SensorEventListener {
         editor.putInt(KEY_DAILY_GOAL, dailyGoal);
         editor.putLong(KEY_START_TIME, startTime);
         editor.putBoolean(KEY_IS_TRACKING, isTracking);
+        editor.putFloat(KEY_CALORIES, caloriesBurned);
+        editor.putFloat(KEY_DISTANCE, distanceTraveled);
+        stepBaseline.save(editor);
         
         // Save the current date for daily reset checking
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
-        String today = dateFormat.format(new Date());
+        String today = TimeFormats.day(System.currentTimeMillis());
         editor.putString(KEY_LAST_SAVED_DAY, today);
         
         editor.apply();
+        
+        // Write out the partial minute as well, addSteps() adds to the existing bucket
+        flushHistory();
+        
+        // Everything in memory is now on disk
+        persistencePolicy.onFlushed(System.currentTimeMillis());
     }
     
     private void checkAndResetDailyCounters() {
@@ -443,16 +763,15 @@ public class StepCounterService extends Service implements SensorEventListener {
         String lastSavedDay = prefs.getString(KEY_LAST_SAVED_DAY, "");
         
         // Get current date
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
-        String today = dateFormat.format(new Date());
+        String today = TimeFormats.day(System.currentTimeMillis());
         
         // If the day has changed, reset daily counters
         if (!today.equals(lastSavedDay)) {
             Log.d(TAG, "New day detected. Resetting daily step count");
             dailySteps = 0;
             
-            // Save the historical data for the previous day if needed
-            // (could be implemented to store in a database for history tracking)
+            // The previous day's steps are already in the step history database
+            // and get compacted into a daily bucket on startup
             
             // Update preferences
             SharedPreferences.Editor editor = prefs.edit();
@@ -468,51 +787,43 @@ public class StepCounterService extends Service implements SensorEventListener {
      * Resets both the current session steps and saved data
      */
     public void resetSteps() {
-        currentSteps = 0;
-        startTime = System.currentTimeMillis();
-        
-        // Reset calories and distance in SharedPreferences
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        SharedPreferences.Editor editor = prefs.edit();
-        editor.putFloat(KEY_CALORIES, 0f);
-        editor.putFloat(KEY_DISTANCE, 0f);
-        editor.apply();
-        
-        // Keep the hardware step count (totalSteps) intact
-        // Reset only session tracking
-        
-        // Save the reset state
-        saveData();
-        
-        // Broadcast update
-        broadcastStepUpdate();
-        
-        // Update notification
-        updateNotification();
+        sensorHandler.post(() -> {
+            currentSteps = 0;
+            startTime = System.currentTimeMillis();
+            
+            // Reset calories and distance (persisted by saveData() below)
+            caloriesBurned = 0f;
+            distanceTraveled = 0f;
+            
+            // Keep the hardware step count (totalSteps) intact
+            // Reset only session tracking
+            
+            // Save the reset state
+            saveData();
+            
+            // Update listeners and notification
+            publishSnapshot();
+        });
     }
     
     /**
      * Resets only the current session steps without affecting total or daily steps
      */
     public void resetSessionSteps() {
-        currentSteps = 0;
-        startTime = System.currentTimeMillis();
-        
-        // Reset calories and distance in SharedPreferences
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        SharedPreferences.Editor editor = prefs.edit();
-        editor.putFloat(KEY_CALORIES, 0f);
-        editor.putFloat(KEY_DISTANCE, 0f);
-        editor.apply();
-        
-        // Save the reset state
-        saveData();
-        
-        // Broadcast update
-        broadcastStepUpdate();
-        
-        // Update notification
-        updateNotification();
+        sensorHandler.post(() -> {
+            currentSteps = 0;
+            startTime = System.currentTimeMillis();
+            
+            // Reset calories and distance (persisted by saveData() below)
+            caloriesBurned = 0f;
+            distanceTraveled = 0f;
+            
+            // Save the reset state
+            saveData();
+            
+            // Update listeners and notification
+            publishSnapshot();
+        });
     }
     
     /**
@@ -520,84 +831,166 @@ public class StepCounterService extends Service implements SensorEventListener {
      * This will stop updating steps until the service is rebound
      */
     public void pauseSession() {
-        // Pause step tracking by unregistering sensor listeners
-        sensorManager.unregisterListener(this);
-        
-        // Update tracking state
+        // Stop counting right away, the rest happens on the sensor thread
         isTracking = false;
         
-        // Remember the pauseTime for proper time tracking
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        SharedPreferences.Editor editor = prefs.edit();
-        editor.putLong("pause_time", System.currentTimeMillis());
-        
-        // Save the current session state with tracking flag set to false
-        // This is critical so the steps don't continue being counted
-        editor.putBoolean(KEY_IS_TRACKING, false);
-        editor.apply();
-        
-        saveData();
-        
-        // Update notification to show paused state
-        NotificationManager notificationManager = 
-                (NotificationManager) getSystemService(Context.NOTIFICATION_SERVICE);
-        
-        Notification notification = new NotificationCompat.Builder(this, CHANNEL_ID)
-                .setContentTitle("Step Counting Paused")
-                .setContentText("Session: " + currentSteps + " steps (paused)")
-                .setSmallIcon(android.R.drawable.ic_menu_directions)
-                .setPriority(NotificationCompat.PRIORITY_LOW)
-                .setOngoing(true)
-                .build();
-        
-        notificationManager.notify(NOTIFICATION_ID, notification);
+        sensorHandler.post(() -> {
+            // Pause step tracking by unregistering sensor listeners
+            sensorManager.unregisterListener(this);
+            cancelMotionTrigger();
+            latencyChangePending = false;
+            updateWakeLock();
+            
+            // Remember the pauseTime for proper time tracking
+            SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+            SharedPreferences.Editor editor = prefs.edit();
+            editor.putLong("pause_time", System.currentTimeMillis());
+            
+            // Save the current session state with tracking flag set to false
+            // This is critical so the steps don't continue being counted
+            editor.putBoolean(KEY_IS_TRACKING, false);
+            editor.apply();
+            
+            saveData();
+            publishSnapshot();
+            
+            // Update notification to show paused state
+            final int sessionSteps = currentSteps;
+            mainHandler.post(() -> notificationScheduler.showPaused(sessionSteps));
+        });
     }
     
     public void setDailyGoal(int goal) {
         if (goal > 0) {
-            dailyGoal = goal;
+            sensorHandler.post(() -> {
+                dailyGoal = goal;
+                SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+                SharedPreferences.Editor editor = prefs.edit();
+                editor.putInt(KEY_DAILY_GOAL, dailyGoal);
+                editor.apply();
+                
+                publishSnapshot();
+            });
+        }
+    }
+    
+    /**
+     * Tells the service whether the step screen is currently visible, which decides
+     * how long step events may be batched in the sensor FIFO before delivery.
+     */
+    public void setUiVisible(boolean visible) {
+        sensorHandler.post(() -> {
+            if (uiVisible == visible) {
+                return;
+            }
+            uiVisible = visible;
+            applyReportLatency();
+        });
+    }
+    
+    /**
+     * Sets the report latency budgets used while the UI is visible and while it is
+     * backgrounded. Larger values let the CPU sleep longer between batches.
+     */
+    public void setReportLatencyBudget(long visibleMs, long backgroundMs) {
+        if (visibleMs < 0 || backgroundMs < 0) {
+            return;
+        }
+        
+        sensorHandler.post(() -> {
+            visibleLatencyMs = visibleMs;
+            backgroundLatencyMs = backgroundMs;
+            
             SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
             SharedPreferences.Editor editor = prefs.edit();
-            editor.putInt(KEY_DAILY_GOAL, dailyGoal);
+            editor.putLong(KEY_VISIBLE_LATENCY_MS, visibleLatencyMs);
+            editor.putLong(KEY_BACKGROUND_LATENCY_MS, backgroundLatencyMs);
             editor.apply();
             
-            broadcastStepUpdate();
-            updateNotification();
-        }
+            applyReportLatency();
+        });
+    }
+    
+    public void addStepUpdateListener(StepUpdatePublisher.Listener listener) {
+        stepUpdatePublisher.addListener(listener);
+    }
+    
+    public void removeStepUpdateListener(StepUpdatePublisher.Listener listener) {
+        stepUpdatePublisher.removeListener(listener);
+    }
+    
+    /**
+     * Sets the maximum number of step updates per second delivered to listeners.
+     */
+    public void setMaxUpdateRate(float hz) {
+        stepUpdatePublisher.setMaxRate(hz);
     }
     
     public boolean isTracking() {
         return isTracking;
     }
     
+    // Getters read the latest snapshot and are safe to call from any thread
+    
+    public StepSnapshot getSnapshot() {
+        return latestSnapshot.get();
+    }
+    
+    /**
+     * Accelerometer samples processed during the last full minute, 0 when the
+     * hardware step counter is used. Shows what idle sampling saves.
+     */
+    public int getAccelerometerSamplesPerMinute() {
+        // Sensor event timestamps use the elapsed realtime clock
+        return samplingController.getSamplesPerMinute(SystemClock.elapsedRealtimeNanos());
+    }
+    
     public int getCurrentSteps() {
-        return currentSteps;
+        return latestSnapshot.get().getSessionSteps();
     }
     
     public int getTotalSteps() {
-        return totalSteps;
+        return latestSnapshot.get().getTotalSteps();
     }
     
     public int getDailySteps() {
-        return dailySteps;
+        return latestSnapshot.get().getDailySteps();
     }
     
     public int getDailyGoal() {
-        return dailyGoal;
+        return latestSnapshot.get().getDailyGoal();
     }
     
     public long getStartTime() {
-        return startTime;
+        return latestSnapshot.get().getStartTime();
     }
     
     public float getCaloriesBurned() {
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        return prefs.getFloat(KEY_CALORIES, 0f);
+        return latestSnapshot.get().getCaloriesBurned();
     }
     
     public float getDistanceTraveled() {
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        return prefs.getFloat(KEY_DISTANCE, 0f);
+        return latestSnapshot.get().getDistanceTraveled();
+    }
+    
+    /**
+     * Caches the body measurements used for stride and calorie estimates. Only writes
+     * when something changed, so a running service rebuilds its model only on real
+     * profile changes.
+     */
+    public static void updateBodyProfile(Context context, float heightCm, float weightKg, String gender) {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+        if (prefs.getFloat(KEY_PROFILE_HEIGHT, 0f) == heightCm 
+                && prefs.getFloat(KEY_PROFILE_WEIGHT, 0f) == weightKg
+                && TextUtils.equals(gender, prefs.getString(KEY_PROFILE_GENDER, null))) {
+            return;
+        }
+        
+        SharedPreferences.Editor editor = prefs.edit();
+        editor.putFloat(KEY_PROFILE_HEIGHT, heightCm);
+        editor.putFloat(KEY_PROFILE_WEIGHT, weightKg);
+        editor.putString(KEY_PROFILE_GENDER, gender);
+        editor.apply();
     }
     
     /**
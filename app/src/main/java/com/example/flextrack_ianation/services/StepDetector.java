@@ -0,0 +1,24 @@
+package com.example.flextrack_ianation.services;
+
+/**
+ * Software step detection from raw accelerometer samples. Implementations are
+ * plain Java so they can be run against recorded traces on the JVM.
+ */
+public interface StepDetector {
+
+    /**
+     * Feeds one accelerometer sample.
+     *
+     * @param timestampNs sample time in nanoseconds, as in {@code SensorEvent.timestamp}
+     * @param x acceleration on the x axis in m/s^2
+     * @param y acceleration on the y axis in m/s^2
+     * @param z acceleration on the z axis in m/s^2
+     * @return true if this sample completed a step
+     */
+    boolean onSample(long timestampNs, float x, float y, float z);
+
+    /**
+     * Clears all filter and detection state, e.g. when a new session starts.
+     */
+    void reset();
+}
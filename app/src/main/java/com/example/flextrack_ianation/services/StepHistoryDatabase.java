@@ -0,0 +1,300 @@
+package com.example.flextrack_ianation.services;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.util.Log;
+
+import java.util.TimeZone;
+
+/**
+ * On-device step history. Steps are recorded in per-minute buckets for the current
+ * day and compacted into hourly and daily buckets once the day has rolled over.
+ * All tables are keyed on an INTEGER PRIMARY KEY, so range queries are plain
+ * B-tree scans (a 90-day chart reads at most 90 daily rows plus today's minutes).
+ *
+ * Time keys: minutes are counted from the epoch in UTC, hours and days are local
+ * clock hours and calendar days counted from the epoch (see {@link #hourKey(long)}
+ * and {@link #dayKey(long)}).
+ */
+public class StepHistoryDatabase extends SQLiteOpenHelper {
+    private static final String TAG = "StepHistoryDatabase";
+    private static final String DATABASE_NAME = "step_history.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final long MINUTE_MS = 60_000L;
+    private static final long HOUR_MS = 60 * MINUTE_MS;
+    private static final long DAY_MS = 24 * HOUR_MS;
+    // Time zone offsets are whole quarter hours, so every UTC quarter hour of minute
+    // buckets lies within one local hour
+    private static final int QUARTER_MINUTES = 15;
+
+    // Hourly buckets are kept this long, daily buckets are kept forever
+    private static final int HOURLY_RETENTION_DAYS = 30;
+
+    private static StepHistoryDatabase instance;
+
+    // Upsert statements of the bucket tables, compiled once per open database
+    private SQLiteDatabase bucketDb;
+    private Bucket minutes;
+    private Bucket hours;
+    private Bucket days;
+
+    public static synchronized StepHistoryDatabase getInstance(Context context) {
+        if (instance == null) {
+            instance = new StepHistoryDatabase(context.getApplicationContext(), DATABASE_NAME);
+        }
+        return instance;
+    }
+
+    // A null name gives an in-memory database, for tests
+    StepHistoryDatabase(Context context, String name) {
+        super(context, name, null, DATABASE_VERSION);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE step_minutes (minute INTEGER PRIMARY KEY, steps INTEGER NOT NULL)");
+        db.execSQL("CREATE TABLE step_hours (hour INTEGER PRIMARY KEY, steps INTEGER NOT NULL)");
+        db.execSQL("CREATE TABLE step_days (day INTEGER PRIMARY KEY, steps INTEGER NOT NULL)");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // Only one version so far
+    }
+
+    @Override
+    public synchronized void close() {
+        closeBuckets();
+        super.close();
+    }
+
+    /**
+     * Returns the minute bucket for a wall clock time.
+     */
+    public static long minuteKey(long timeMillis) {
+        return timeMillis / MINUTE_MS;
+    }
+
+    /**
+     * Returns the local clock hour for a wall clock time, as hours since the epoch.
+     * Hour {@code h} belongs to local day {@code h / 24}.
+     */
+    public static long hourKey(long timeMillis) {
+        return (timeMillis + TimeZone.getDefault().getOffset(timeMillis)) / HOUR_MS;
+    }
+
+    /**
+     * Returns the local calendar day for a wall clock time, as days since the epoch.
+     */
+    public static long dayKey(long timeMillis) {
+        return (timeMillis + TimeZone.getDefault().getOffset(timeMillis)) / DAY_MS;
+    }
+
+    /**
+     * Adds steps to a minute bucket. Call from a background thread.
+     */
+    public synchronized void addSteps(long minute, int steps) {
+        SQLiteDatabase db = getWritableDatabase();
+        prepareBuckets(db);
+        db.beginTransaction();
+        try {
+            minutes.add(minute, steps);
+            db.setTransactionSuccessful();
+        } catch (Exception e) {
+            Log.e(TAG, "Error saving step history", e);
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Folds all minute buckets from days before the given time into hourly and daily
+     * buckets, then drops the minutes and any expired hourly buckets. Safe to call
+     * repeatedly. Call from a background thread.
+     */
+    public synchronized void compact(long nowMillis) {
+        long today = dayKey(nowMillis);
+        SQLiteDatabase db = getWritableDatabase();
+        prepareBuckets(db);
+        db.beginTransaction();
+        try {
+            long lastCompactedMinute = -1;
+            long hour = -1;
+            int hourSteps = 0;
+            Cursor cursor = db.rawQuery(
+                    "SELECT minute / " + QUARTER_MINUTES + " AS quarter, SUM(steps), MAX(minute) "
+                            + "FROM step_minutes GROUP BY quarter ORDER BY quarter", null);
+            try {
+                while (cursor.moveToNext()) {
+                    long quarterHour = hourKey(cursor.getLong(0) * QUARTER_MINUTES * MINUTE_MS);
+                    if (quarterHour / 24 >= today) {
+                        break;
+                    }
+                    if (quarterHour != hour) {
+                        addHour(hour, hourSteps);
+                        hour = quarterHour;
+                        hourSteps = 0;
+                    }
+                    hourSteps += cursor.getInt(1);
+                    lastCompactedMinute = cursor.getLong(2);
+                }
+            } finally {
+                cursor.close();
+            }
+            addHour(hour, hourSteps);
+
+            if (lastCompactedMinute >= 0) {
+                db.execSQL("DELETE FROM step_minutes WHERE minute <= ?",
+                        new Object[]{lastCompactedMinute});
+                Log.d(TAG, "Compacted step history up to minute " + lastCompactedMinute);
+            }
+
+            long oldestHour = hourKey(nowMillis - HOURLY_RETENTION_DAYS * DAY_MS);
+            db.execSQL("DELETE FROM step_hours WHERE hour < ?", new Object[]{oldestHour});
+
+            db.setTransactionSuccessful();
+        } catch (Exception e) {
+            Log.e(TAG, "Error compacting step history", e);
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Returns the steps for each local day in [firstDay, firstDay + dayCount), including
+     * days that have not been compacted yet. Index 0 is firstDay.
+     */
+    public int[] getDailySteps(long firstDay, int dayCount) {
+        int[] steps = new int[dayCount];
+        long lastDay = firstDay + dayCount - 1;
+        SQLiteDatabase db = getReadableDatabase();
+
+        Cursor cursor = db.rawQuery("SELECT day, steps FROM step_days WHERE day BETWEEN ? AND ?",
+                new String[]{String.valueOf(firstDay), String.valueOf(lastDay)});
+        try {
+            while (cursor.moveToNext()) {
+                steps[(int) (cursor.getLong(0) - firstDay)] += cursor.getInt(1);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        // Minutes that are still waiting to be compacted, normally only today's
+        cursor = queryUncompactedQuarters(db);
+        try {
+            while (cursor.moveToNext()) {
+                long day = dayKey(cursor.getLong(0) * QUARTER_MINUTES * MINUTE_MS);
+                if (day >= firstDay && day <= lastDay) {
+                    steps[(int) (day - firstDay)] += cursor.getInt(1);
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+
+        return steps;
+    }
+
+    /**
+     * Returns the 24 hourly step counts of a local day that is still within the
+     * hourly retention window. Index 0 is the hour from midnight.
+     */
+    public int[] getHourlySteps(long day) {
+        int[] steps = new int[24];
+        long firstHour = day * 24;
+        long lastHour = firstHour + 23;
+        SQLiteDatabase db = getReadableDatabase();
+
+        Cursor cursor = db.rawQuery("SELECT hour, steps FROM step_hours WHERE hour BETWEEN ? AND ?",
+                new String[]{String.valueOf(firstHour), String.valueOf(lastHour)});
+        try {
+            while (cursor.moveToNext()) {
+                steps[(int) (cursor.getLong(0) - firstHour)] += cursor.getInt(1);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        cursor = queryUncompactedQuarters(db);
+        try {
+            while (cursor.moveToNext()) {
+                long hour = hourKey(cursor.getLong(0) * QUARTER_MINUTES * MINUTE_MS);
+                if (hour >= firstHour && hour <= lastHour) {
+                    steps[(int) (hour - firstHour)] += cursor.getInt(1);
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+
+        return steps;
+    }
+
+    private static Cursor queryUncompactedQuarters(SQLiteDatabase db) {
+        return db.rawQuery("SELECT minute / " + QUARTER_MINUTES + " AS quarter, SUM(steps) "
+                + "FROM step_minutes GROUP BY quarter", null);
+    }
+
+    private void addHour(long hour, int steps) {
+        if (hour < 0) {
+            return;
+        }
+        hours.add(hour, steps);
+        days.add(hour / 24, steps);
+    }
+
+    private void prepareBuckets(SQLiteDatabase db) {
+        if (db == bucketDb) {
+            return;
+        }
+        closeBuckets();
+        minutes = new Bucket(db, "step_minutes", "minute");
+        hours = new Bucket(db, "step_hours", "hour");
+        days = new Bucket(db, "step_days", "day");
+        bucketDb = db;
+    }
+
+    private void closeBuckets() {
+        if (bucketDb == null) {
+            return;
+        }
+        minutes.close();
+        hours.close();
+        days.close();
+        bucketDb = null;
+    }
+
+    /**
+     * Adds steps to the rows of one bucket table. INSERT OR IGNORE followed by UPDATE,
+     * because minSdk 24 predates the SQLite UPSERT syntax.
+     */
+    private static final class Bucket {
+        private final SQLiteStatement insert;
+        private final SQLiteStatement update;
+
+        Bucket(SQLiteDatabase db, String table, String keyColumn) {
+            insert = db.compileStatement(
+                    "INSERT OR IGNORE INTO " + table + " (" + keyColumn + ", steps) VALUES (?, 0)");
+            update = db.compileStatement(
+                    "UPDATE " + table + " SET steps = steps + ? WHERE " + keyColumn + " = ?");
+        }
+
+        void add(long key, int steps) {
+            insert.bindLong(1, key);
+            insert.executeInsert();
+
+            update.bindLong(1, steps);
+            update.bindLong(2, key);
+            update.executeUpdateDelete();
+        }
+
+        void close() {
+            insert.close();
+            update.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.flextrack_ianation.services;
+
+/**
+ * Precomputed, immutable model that turns steps into distance and calories for one
+ * user. It is built once from the health profile (height, weight, gender) and
+ * afterwards every lookup is plain arithmetic, so it can be used per step.
+ *
+ * Stride length is estimated from height. Calories per step come from the walking
+ * MET value at a given cadence (steps per minute), precomputed into a small table.
+ */
+public final class StepMetricsModel {
+    // Used until a health profile is known
+    public static final float DEFAULT_STRIDE_LENGTH = 0.75f;
+    public static final float DEFAULT_CALORIES_PER_STEP = 0.04f;
+    // Typical walking cadence, used before enough steps were seen to measure it
+    public static final float DEFAULT_CADENCE = 100f;
+
+    public static final StepMetricsModel DEFAULT = new StepMetricsModel(DEFAULT_STRIDE_LENGTH, null);
+
+    // Stride length as a fraction of body height
+    private static final float STRIDE_RATIO_MALE = 0.415f;
+    private static final float STRIDE_RATIO_FEMALE = 0.413f;
+
+    // Cadence table: 40 to 200 steps per minute in steps of 10
+    private static final int MIN_CADENCE = 40;
+    private static final int CADENCE_STEP = 10;
+    private static final int CADENCE_BUCKETS = 17;
+
+    private final float strideLength;
+    private final float[] caloriesPerStep;
+
+    private StepMetricsModel(float strideLength, float[] caloriesPerStep) {
+        this.strideLength = strideLength;
+        this.caloriesPerStep = caloriesPerStep;
+    }
+
+    /**
+     * Builds the model for a user. Invalid values fall back to the defaults.
+     *
+     * @param heightCm body height in centimeters
+     * @param weightKg body weight in kilograms
+     * @param gender gender as stored in the health profile, may be null
+     */
+    public static StepMetricsModel fromProfile(float heightCm, float weightKg, String gender) {
+        float strideLength = DEFAULT_STRIDE_LENGTH;
+        if (heightCm > 0) {
+            float ratio = "Female".equalsIgnoreCase(gender) ? STRIDE_RATIO_FEMALE : STRIDE_RATIO_MALE;
+            strideLength = heightCm / 100f * ratio;
+        }
+
+        if (weightKg <= 0) {
+            return new StepMetricsModel(strideLength, null);
+        }
+
+        float[] caloriesPerStep = new float[CADENCE_BUCKETS];
+        for (int i = 0; i < CADENCE_BUCKETS; i++) {
+            float cadence = MIN_CADENCE + i * CADENCE_STEP;
+            // kcal per minute = MET * 3.5 * kg / 200, spread over the steps of that minute
+            float caloriesPerMinute = metForCadence(cadence) * 3.5f * weightKg / 200f;
+            caloriesPerStep[i] = caloriesPerMinute / cadence;
+        }
+        return new StepMetricsModel(strideLength, caloriesPerStep);
+    }
+
+    /**
+     * Walking and running intensity rises roughly linearly with cadence:
+     * about 3 METs at 100 steps per minute and 6 METs at 130.
+     */
+    private static float metForCadence(float cadence) {
+        float met = 3f + (cadence - 100f) * 0.1f;
+        return Math.max(2f, Math.min(10f, met));
+    }
+
+    public float getStrideLength() {
+        return strideLength;
+    }
+
+    public float getCaloriesPerStep(float cadence) {
+        if (caloriesPerStep == null) {
+            return DEFAULT_CALORIES_PER_STEP;
+        }
+        int index = Math.round((cadence - MIN_CADENCE) / CADENCE_STEP);
+        if (index < 0) {
+            index = 0;
+        } else if (index >= CADENCE_BUCKETS) {
+            index = CADENCE_BUCKETS - 1;
+        }
+        return caloriesPerStep[index];
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.flextrack_ianation.services;
+
+import android.app.Notification;
+import android.app.NotificationManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.core.app.NotificationCompat;
+
+import java.util.Locale;
+
+/**
+ * Posts the ongoing step counter notification. The builder and PendingIntent are
+ * created once, the notification is only re-posted when its text actually changes,
+ * and posts are spaced at least {@link #MIN_UPDATE_INTERVAL_MS} apart so we stay
+ * well under the system notification rate limit.
+ */
+public class StepNotificationScheduler {
+    private static final long MIN_UPDATE_INTERVAL_MS = 1_000;
+
+    private final NotificationManager notificationManager;
+    private final NotificationCompat.Builder builder;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final int notificationId;
+
+    // What is currently shown
+    private String postedTitle;
+    private String postedText;
+    private long lastPostTime = 0;
+
+    // Latest requested content, posted once the rate limit allows it
+    private String pendingTitle;
+    private String pendingText;
+    private boolean postPending = false;
+
+    private final Runnable postRunnable = new Runnable() {
+        @Override
+        public void run() {
+            postPending = false;
+            postIfChanged();
+        }
+    };
+
+    public StepNotificationScheduler(Context context, String channelId, int notificationId,
+                                     PendingIntent contentIntent) {
+        this.notificationManager =
+                (NotificationManager) context.getSystemService(Context.NOTIFICATION_SERVICE);
+        this.notificationId = notificationId;
+        this.builder = new NotificationCompat.Builder(context, channelId)
+                .setSmallIcon(android.R.drawable.ic_menu_directions)
+                .setContentIntent(contentIntent)
+                .setPriority(NotificationCompat.PRIORITY_LOW)
+                .setOnlyAlertOnce(true)
+                .setOngoing(true);
+    }
+
+    /**
+     * Builds the progress notification without posting it, for startForeground().
+     */
+    public Notification buildProgress(int totalSteps, int sessionSteps, float calories) {
+        postedTitle = progressTitle(totalSteps);
+        postedText = progressText(sessionSteps, calories);
+        lastPostTime = SystemClock.elapsedRealtime();
+        return builder.setContentTitle(postedTitle).setContentText(postedText).build();
+    }
+
+    public void showProgress(int totalSteps, int sessionSteps, float calories) {
+        post(progressTitle(totalSteps), progressText(sessionSteps, calories));
+    }
+
+    public void showPaused(int sessionSteps) {
+        post("Step Counting Paused", "Session: " + sessionSteps + " steps (paused)");
+    }
+
+    public void showResumed(int sessionSteps) {
+        post("Step Counting Resumed", "Session: " + sessionSteps + " steps");
+    }
+
+    public void cancelPending() {
+        handler.removeCallbacks(postRunnable);
+        postPending = false;
+    }
+
+    private void post(String title, String text) {
+        pendingTitle = title;
+        pendingText = text;
+
+        // A delayed post is already scheduled and will pick up the latest text
+        if (postPending) {
+            return;
+        }
+
+        long sinceLastPost = SystemClock.elapsedRealtime() - lastPostTime;
+        if (sinceLastPost >= MIN_UPDATE_INTERVAL_MS) {
+            postIfChanged();
+        } else {
+            postPending = true;
+            handler.postDelayed(postRunnable, MIN_UPDATE_INTERVAL_MS - sinceLastPost);
+        }
+    }
+
+    private void postIfChanged() {
+        if (pendingTitle.equals(postedTitle) && pendingText.equals(postedText)) {
+            return;
+        }
+
+        postedTitle = pendingTitle;
+        postedText = pendingText;
+        lastPostTime = SystemClock.elapsedRealtime();
+
+        builder.setContentTitle(postedTitle).setContentText(postedText);
+        notificationManager.notify(notificationId, builder.build());
+    }
+
+    private static String progressTitle(int totalSteps) {
+        return "Total Steps: " + totalSteps;
+    }
+
+    private static String progressText(int sessionSteps, float calories) {
+        return "Session: " + sessionSteps + " steps • "
+                + String.format(Locale.getDefault(), "%.1f", calories) + " kcal";
+    }
+}
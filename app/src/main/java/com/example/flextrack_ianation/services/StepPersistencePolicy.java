@@ -0,0 +1,55 @@
+package com.example.flextrack_ianation.services;
+
+/**
+ * Write-behind policy for the step counter. Steps are accumulated in memory by
+ * {@link StepCounterService} and only written to SharedPreferences once enough
+ * steps or time have passed since the last write, so that at most
+ * {@link #MAX_UNSAVED_STEPS} steps can be lost if the process is killed.
+ */
+public class StepPersistencePolicy {
+    // Maximum number of steps kept only in memory before forcing a write
+    public static final int MAX_UNSAVED_STEPS = 50;
+    // Maximum time unsaved steps may stay in memory before forcing a write
+    public static final long MAX_UNSAVED_TIME_MS = 30_000;
+
+    private final int maxUnsavedSteps;
+    private final long maxUnsavedTimeMs;
+
+    private int unsavedSteps = 0;
+    private long lastFlushTime;
+
+    public StepPersistencePolicy(long now) {
+        this(MAX_UNSAVED_STEPS, MAX_UNSAVED_TIME_MS, now);
+    }
+
+    public StepPersistencePolicy(int maxUnsavedSteps, long maxUnsavedTimeMs, long now) {
+        this.maxUnsavedSteps = maxUnsavedSteps;
+        this.maxUnsavedTimeMs = maxUnsavedTimeMs;
+        this.lastFlushTime = now;
+    }
+
+    /**
+     * Records newly counted steps and returns true if the caller should persist now.
+     */
+    public boolean onStepsCounted(int stepDelta, long now) {
+        unsavedSteps += stepDelta;
+        return unsavedSteps >= maxUnsavedSteps
+                || (unsavedSteps > 0 && now - lastFlushTime >= maxUnsavedTimeMs);
+    }
+
+    /**
+     * Must be called after every successful write so the counters start over.
+     */
+    public void onFlushed(long now) {
+        unsavedSteps = 0;
+        lastFlushTime = now;
+    }
+
+    public boolean hasUnsavedSteps() {
+        return unsavedSteps > 0;
+    }
+
+    public int getUnsavedSteps() {
+        return unsavedSteps;
+    }
+}
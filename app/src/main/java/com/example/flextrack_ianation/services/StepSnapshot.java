@@ -0,0 +1,57 @@
+package com.example.flextrack_ianation.services;
+
+/**
+ * Immutable view of the step counter state. The sensor thread of
+ * {@link StepCounterService} publishes a new snapshot after each processed batch,
+ * and UI code reads the latest one without any locking.
+ */
+public final class StepSnapshot {
+    public static final StepSnapshot EMPTY = new StepSnapshot(0, 0, 0, 10000, 0, 0f, 0f);
+
+    private final int sessionSteps;
+    private final int totalSteps;
+    private final int dailySteps;
+    private final int dailyGoal;
+    private final long startTime;
+    private final float caloriesBurned;
+    private final float distanceTraveled;
+
+    public StepSnapshot(int sessionSteps, int totalSteps, int dailySteps, int dailyGoal,
+                        long startTime, float caloriesBurned, float distanceTraveled) {
+        this.sessionSteps = sessionSteps;
+        this.totalSteps = totalSteps;
+        this.dailySteps = dailySteps;
+        this.dailyGoal = dailyGoal;
+        this.startTime = startTime;
+        this.caloriesBurned = caloriesBurned;
+        this.distanceTraveled = distanceTraveled;
+    }
+
+    public int getSessionSteps() {
+        return sessionSteps;
+    }
+
+    public int getTotalSteps() {
+        return totalSteps;
+    }
+
+    public int getDailySteps() {
+        return dailySteps;
+    }
+
+    public int getDailyGoal() {
+        return dailyGoal;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public float getCaloriesBurned() {
+        return caloriesBurned;
+    }
+
+    public float getDistanceTraveled() {
+        return distanceTraveled;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.flextrack_ianation.services;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process stream of step updates from {@link StepCounterService} to bound clients.
+ * Updates are conflated: the latest values are kept in primitive fields and delivered
+ * on the main thread at most {@link #DEFAULT_MAX_RATE_HZ} times per second, and only
+ * while at least one listener is registered.
+ */
+public class StepUpdatePublisher {
+    public static final float DEFAULT_MAX_RATE_HZ = 4f;
+
+    /**
+     * Receives conflated step updates on the main thread.
+     */
+    public interface Listener {
+        void onStepUpdate(int sessionSteps, int totalSteps, int dailySteps, int dailyGoal,
+                          long elapsedTimeMillis, float calories, float distance);
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final List<Listener> listeners = new ArrayList<>();
+    private long minIntervalMs;
+
+    // Latest published values
+    private int sessionSteps;
+    private int totalSteps;
+    private int dailySteps;
+    private int dailyGoal;
+    private long startTime;
+    private float calories;
+    private float distance;
+
+    private long lastEmitTime = 0;
+    private boolean emitPending = false;
+
+    private final Runnable emitRunnable = new Runnable() {
+        @Override
+        public void run() {
+            emitPending = false;
+            emit();
+        }
+    };
+
+    public StepUpdatePublisher() {
+        setMaxRate(DEFAULT_MAX_RATE_HZ);
+    }
+
+    /**
+     * Sets how many updates per second listeners may receive at most.
+     */
+    public void setMaxRate(float hz) {
+        if (hz > 0) {
+            minIntervalMs = (long) (1000 / hz);
+        }
+    }
+
+    public void addListener(Listener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+            // Give the new subscriber the current state straight away
+            listener.onStepUpdate(sessionSteps, totalSteps, dailySteps, dailyGoal,
+                    System.currentTimeMillis() - startTime, calories, distance);
+        }
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            handler.removeCallbacks(emitRunnable);
+            emitPending = false;
+        }
+    }
+
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Stores the latest values and schedules a delivery if one is not already due.
+     * Must be called on the main thread.
+     */
+    public void publish(int sessionSteps, int totalSteps, int dailySteps, int dailyGoal,
+                        long startTime, float calories, float distance) {
+        this.sessionSteps = sessionSteps;
+        this.totalSteps = totalSteps;
+        this.dailySteps = dailySteps;
+        this.dailyGoal = dailyGoal;
+        this.startTime = startTime;
+        this.calories = calories;
+        this.distance = distance;
+
+        // Nobody is listening, the values are just kept for the next subscriber
+        if (listeners.isEmpty() || emitPending) {
+            return;
+        }
+
+        long sinceLastEmit = SystemClock.elapsedRealtime() - lastEmitTime;
+        if (sinceLastEmit >= minIntervalMs) {
+            emit();
+        } else {
+            emitPending = true;
+            handler.postDelayed(emitRunnable, minIntervalMs - sinceLastEmit);
+        }
+    }
+
+    public void clear() {
+        handler.removeCallbacks(emitRunnable);
+        emitPending = false;
+        listeners.clear();
+    }
+
+    private void emit() {
+        lastEmitTime = SystemClock.elapsedRealtime();
+        long elapsedTimeMillis = System.currentTimeMillis() - startTime;
+
+        // Iterate by index so listeners may unregister themselves without allocating an iterator
+        for (int i = listeners.size() - 1; i >= 0; i--) {
+            listeners.get(i).onStepUpdate(sessionSteps, totalSteps, dailySteps, dailyGoal,
+                    elapsedTimeMillis, calories, distance);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.flextrack_ianation.services;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Base64;
+
+import com.example.flextrack_ianation.models.PlanCodec;
+import com.example.flextrack_ianation.models.Workout;
+import com.example.flextrack_ianation.models.WorkoutPlan;
+import com.example.flextrack_ianation.utils.StableHash;
+
+import java.io.IOException;
+
+/**
+ * Remembers which health profile the active workout plan was generated from, so the
+ * plan screen can reuse it instead of generating and uploading the same plan again.
+ *
+ * The profile values are reduced to a hash. The last plan stays in memory for the
+ * life of the process; the hash, plan id and creation time are also kept in shared
+ * preferences, so after a restart the plan is rebuilt locally under its existing id
+ * and timestamp without a new upload.
+ *
+ * The workout last opened from the plan is kept in the preferences too, in its
+ * {@link PlanCodec} form, so its details and progress screens can be restored after
+ * the process was killed.
+ */
+public class WorkoutPlanCache {
+    private static final String PREFS_NAME = "WorkoutPlanPrefs";
+    private static final String KEY_PROFILE_HASH = "profile_hash_";
+    private static final String KEY_PLAN_ID = "plan_id_";
+    private static final String KEY_CREATED_AT = "created_at_";
+    private static final String KEY_OPEN_REFERENCE = "open_workout_reference";
+    private static final String KEY_OPEN_WORKOUT = "open_workout";
+
+    private static String cachedUserId;
+    private static String cachedProfileHash;
+    private static WorkoutPlan cachedPlan;
+
+    public static String profileHash(String bmiCategory, String fitnessGoal, String fitnessLevel,
+                                     String focusArea, String environment, int workoutTimePerDay,
+                                     int daysPerWeek) {
+        String key = bmiCategory + "|" + fitnessGoal + "|" + fitnessLevel + "|" + focusArea + "|"
+                + environment + "|" + workoutTimePerDay + "|" + daysPerWeek;
+        return Long.toHexString(StableHash.fnv1a64(key));
+    }
+
+    /**
+     * Returns the plan saved or rebuilt in this process for the profile, or null.
+     */
+    public static synchronized WorkoutPlan getPlan(String userId, String profileHash) {
+        if (userId.equals(cachedUserId) && profileHash.equals(cachedProfileHash)) {
+            return cachedPlan;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the id of the saved plan generated from the profile, or null if the
+     * profile changed since the last upload.
+     */
+    public static String getSavedPlanId(Context context, String userId, String profileHash) {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        if (profileHash.equals(prefs.getString(KEY_PROFILE_HASH + userId, null))) {
+            return prefs.getString(KEY_PLAN_ID + userId, null);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the creation time of the saved plan, or null if it was saved without one.
+     * Only valid while {@link #getSavedPlanId} returns the plan.
+     */
+    public static String getSavedCreatedAt(Context context, String userId) {
+        return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                .getString(KEY_CREATED_AT + userId, null);
+    }
+
+    public static synchronized void putPlan(String userId, String profileHash, WorkoutPlan plan) {
+        cachedUserId = userId;
+        cachedProfileHash = profileHash;
+        cachedPlan = plan;
+    }
+
+    /**
+     * Records that the plan was uploaded, call once the save succeeded.
+     */
+    public static void markSaved(Context context, String userId, String profileHash, String planId,
+                                 String createdAt) {
+        context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                .edit()
+                .putString(KEY_PROFILE_HASH + userId, profileHash)
+                .putString(KEY_PLAN_ID + userId, planId)
+                .putString(KEY_CREATED_AT + userId, createdAt)
+                .apply();
+    }
+
+    /**
+     * Keeps the workout opened under a reference, see {@link WorkoutPlanRepository}.
+     */
+    public static void putOpenWorkout(Context context, String reference, Workout workout) {
+        context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                .edit()
+                .putString(KEY_OPEN_REFERENCE, reference)
+                .putString(KEY_OPEN_WORKOUT, Base64.encodeToString(PlanCodec.encode(workout), Base64.NO_WRAP))
+                .apply();
+    }
+
+    /**
+     * Returns the workout last kept under the reference, or null.
+     */
+    public static Workout getOpenWorkout(Context context, String reference) {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        String data = prefs.getString(KEY_OPEN_WORKOUT, null);
+        if (data == null || !reference.equals(prefs.getString(KEY_OPEN_REFERENCE, null))) {
+            return null;
+        }
+        try {
+            return PlanCodec.decodeWorkout(Base64.decode(data, Base64.NO_WRAP));
+        } catch (IOException | IllegalArgumentException e) {
+            // Written by another codec version, or damaged
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.flextrack_ianation.services;
+
+import android.content.Context;
+import android.content.Intent;
+
+import com.example.flextrack_ianation.models.Workout;
+import com.example.flextrack_ianation.models.WorkoutPlan;
+
+import java.util.List;
+
+/**
+ * Holds the active workout plan for the whole process. Screens pass a workout to
+ * each other as plan id, week number and position in the week, and look the
+ * workout up here, instead of copying the whole workout into every Intent.
+ *
+ * Workouts looked up here are shared by every screen and may be rebuilt between
+ * lookups, so state of a single run, like the id of its workout session, travels in
+ * the Intent next to the reference instead of being set on the workout.
+ *
+ * The workout last looked up by reference is also kept by {@link WorkoutPlanCache},
+ * so the screens showing it still find it when the process was restarted and the
+ * plan is not loaded yet.
+ */
+public class WorkoutPlanRepository {
+    private static final String EXTRA_PLAN_ID = "planId";
+    private static final String EXTRA_WEEK_NUMBER = "weekNumber";
+    private static final String EXTRA_WORKOUT_INDEX = "workoutIndex";
+    private static final String EXTRA_SESSION_ID = "sessionId";
+
+    private static WorkoutPlanRepository instance;
+
+    private WorkoutPlan activePlan;
+    private Workout keptWorkout;
+
+    public static synchronized WorkoutPlanRepository getInstance() {
+        if (instance == null) {
+            instance = new WorkoutPlanRepository();
+        }
+        return instance;
+    }
+
+    public synchronized void setActivePlan(WorkoutPlan plan) {
+        activePlan = plan;
+    }
+
+    public synchronized WorkoutPlan getActivePlan() {
+        return activePlan;
+    }
+
+    /**
+     * Returns a workout of the active plan, or null if that plan is no longer loaded
+     * (e.g. after the process was restarted) or the position does not exist.
+     *
+     * @param planId id of the plan, null for plans that were never saved
+     * @param weekNumber plan week, starting at 1
+     * @param workoutIndex position of the workout in the week
+     */
+    public synchronized Workout getWorkout(String planId, int weekNumber, int workoutIndex) {
+        if (activePlan == null || (planId != null && !planId.equals(activePlan.getPlanId()))) {
+            return null;
+        }
+        List<Workout> workouts = activePlan.getWorkoutsForWeek(weekNumber);
+        if (workoutIndex < 0 || workoutIndex >= workouts.size()) {
+            return null;
+        }
+        return workouts.get(workoutIndex);
+    }
+
+    /**
+     * Adds the reference to a workout of the active plan to an Intent.
+     */
+    public static void putWorkoutReference(Intent intent, String planId, int weekNumber, int workoutIndex) {
+        intent.putExtra(EXTRA_PLAN_ID, planId);
+        intent.putExtra(EXTRA_WEEK_NUMBER, weekNumber);
+        intent.putExtra(EXTRA_WORKOUT_INDEX, workoutIndex);
+    }
+
+    /**
+     * Copies the workout reference and session id of one Intent to another.
+     */
+    public static void copyWorkoutReference(Intent from, Intent to) {
+        putWorkoutReference(to, from.getStringExtra(EXTRA_PLAN_ID),
+                from.getIntExtra(EXTRA_WEEK_NUMBER, 0), from.getIntExtra(EXTRA_WORKOUT_INDEX, -1));
+        putSessionId(to, getSessionId(from));
+    }
+
+    /**
+     * Adds the id of the workout session started for the referenced workout.
+     */
+    public static void putSessionId(Intent intent, String sessionId) {
+        intent.putExtra(EXTRA_SESSION_ID, sessionId);
+    }
+
+    /**
+     * Returns the id of the workout session passed with the reference, or null if no
+     * session was started yet.
+     */
+    public static String getSessionId(Intent intent) {
+        return intent.getStringExtra(EXTRA_SESSION_ID);
+    }
+
+    /**
+     * Looks up the workout referenced by an Intent, or returns null.
+     */
+    public Workout getWorkout(Context context, Intent intent) {
+        String planId = intent.getStringExtra(EXTRA_PLAN_ID);
+        int weekNumber = intent.getIntExtra(EXTRA_WEEK_NUMBER, 0);
+        int workoutIndex = intent.getIntExtra(EXTRA_WORKOUT_INDEX, -1);
+        String reference = planId + "/" + weekNumber + "/" + workoutIndex;
+
+        Workout workout = getWorkout(planId, weekNumber, workoutIndex);
+        if (workout == null) {
+            return WorkoutPlanCache.getOpenWorkout(context, reference);
+        }
+        synchronized (this) {
+            if (workout != keptWorkout) {
+                keptWorkout = workout;
+                WorkoutPlanCache.putOpenWorkout(context, reference, workout);
+            }
+        }
+        return workout;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.models.BmiCategory;
+import com.example.flextrack_ianation.models.FitnessGoal;
+import com.example.flextrack_ianation.models.FitnessLevel;
+import com.example.flextrack_ianation.models.FocusArea;
+
+import java.io.Serializable;
+
+/**
+ * Health profile values a plan is generated from. The labels are parsed into enums
+ * once per plan, so generating workouts compares enums instead of strings. The
+ * original labels are kept because they are copied into the generated workouts.
+ */
+public final class WorkoutProfile implements Serializable {
+    private final BmiCategory bmiCategory;
+    private final FitnessGoal fitnessGoal;
+    private final FitnessLevel fitnessLevel;
+    private final FocusArea focusArea;
+    private final String fitnessLevelLabel;
+    private final String focusAreaLabel;
+    private final String environment;
+    private final int workoutTimePerDay;
+
+    public WorkoutProfile(String bmiCategory, String fitnessGoal, String fitnessLevel,
+                          String focusArea, String environment, int workoutTimePerDay) {
+        this.bmiCategory = BmiCategory.fromLabel(bmiCategory);
+        this.fitnessGoal = FitnessGoal.fromLabel(fitnessGoal);
+        this.fitnessLevel = FitnessLevel.fromLabel(fitnessLevel);
+        this.focusArea = FocusArea.fromLabel(focusArea);
+        this.fitnessLevelLabel = fitnessLevel;
+        this.focusAreaLabel = focusArea;
+        this.environment = environment;
+        this.workoutTimePerDay = workoutTimePerDay;
+    }
+
+    public BmiCategory getBmiCategory() {
+        return bmiCategory;
+    }
+
+    public FitnessGoal getFitnessGoal() {
+        return fitnessGoal;
+    }
+
+    public FitnessLevel getFitnessLevel() {
+        return fitnessLevel;
+    }
+
+    public FocusArea getFocusArea() {
+        return focusArea;
+    }
+
+    public String getFitnessLevelLabel() {
+        return fitnessLevelLabel;
+    }
+
+    public String getFocusAreaLabel() {
+        return focusAreaLabel;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public int getWorkoutTimePerDay() {
+        return workoutTimePerDay;
+    }
+}
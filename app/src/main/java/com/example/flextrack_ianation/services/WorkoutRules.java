@@ -0,0 +1,289 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.models.Exercise;
+import com.example.flextrack_ianation.models.FitnessLevel;
+import com.example.flextrack_ianation.models.FocusArea;
+import com.example.flextrack_ianation.models.Workout;
+import com.example.flextrack_ianation.models.WorkoutType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table of the workouts the plan generator hands out per BMI category, fitness goal
+ * and focus area, loaded once from the {@code workout_rules.tsv} resource next to
+ * this class. See the header of the resource for the columns and matching rules.
+ *
+ * {@link #compile} picks the lines that apply to a profile and resolves their texts,
+ * exercises and calorie estimates once per plan, so building a day of the plan only
+ * creates the workouts. A new category or goal is a few more lines in the resource.
+ */
+final class WorkoutRules {
+    private static final String RESOURCE = "workout_rules.tsv";
+    private static final int COLUMNS = 14;
+
+    private static final String DAY_TRAINING = "training";
+    private static final String DAY_RECOVERY = "recovery";
+    private static final String FOCUS = "{focus}";
+    private static final String FOCUS_LOWER = "{focus:lower}";
+
+    private static WorkoutRules instance;
+
+    private final List<Rule> rules;
+    // Values named by the lines, for "-" patterns. Goals are grouped by the BMI
+    // column, focus areas by the BMI and goal columns.
+    private final Set<String> namedBmiCategories = new HashSet<>();
+    private final Map<String, Set<String>> namedGoals = new HashMap<>();
+    private final Map<String, Set<String>> namedFocusAreas = new HashMap<>();
+
+    /**
+     * One line of the table.
+     */
+    private static final class Rule {
+        private final String bmiCategory;
+        private final String fitnessGoal;
+        private final String focusArea;
+        private final boolean recovery;
+        private final int minWorkoutsPerWeek;
+        private final String name;
+        private final String description;
+        private final String muscleGroups;
+        private final String workoutType;
+        private final String workoutFocus;
+        private final String catalogBmi;
+        private final String catalogType;
+        // Calories per minute, or null for the standard rate of the workout type
+        private final Double caloriesPerMinute;
+        // Multiplier per FitnessLevel ordinal, or null for the standard multipliers
+        private final double[] levelMultipliers;
+
+        private Rule(String[] columns) throws IOException {
+            bmiCategory = columns[0];
+            fitnessGoal = columns[1];
+            focusArea = columns[2];
+            if (DAY_RECOVERY.equals(columns[3])) {
+                recovery = true;
+            } else if (DAY_TRAINING.equals(columns[3])) {
+                recovery = false;
+            } else {
+                throw new IOException("unknown day " + columns[3]);
+            }
+            minWorkoutsPerWeek = Integer.parseInt(columns[4]);
+            name = columns[5];
+            description = columns[6];
+            muscleGroups = columns[7];
+            workoutType = columns[8];
+            workoutFocus = columns[9];
+            catalogBmi = columns[10];
+            catalogType = columns[11];
+            caloriesPerMinute = LabelPatterns.ANY.equals(columns[12]) ? null : Double.valueOf(columns[12]);
+            if (LabelPatterns.ANY.equals(columns[13])) {
+                levelMultipliers = null;
+            } else {
+                String[] values = columns[13].split("\\|");
+                if (values.length != FitnessLevel.values().length) {
+                    throw new IOException("expected " + FitnessLevel.values().length + " level multipliers");
+                }
+                levelMultipliers = new double[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    levelMultipliers[i] = Double.parseDouble(values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * A line resolved for one plan: everything but the week, the progression and the
+     * variation of the day is fixed.
+     */
+    static final class CompiledRule {
+        private final String name;
+        private final String description;
+        private final String muscleGroups;
+        private final int durationMinutes;
+        private final String fitnessLevel;
+        private final String workoutType;
+        private final String focusArea;
+        private final String environment;
+        private final String createdAt;
+        private final int caloriesBurnEstimate;
+        private final List<ExerciseCatalog.Entry> exercises;
+        private final List<ExerciseCatalog.Entry> alternatives;
+
+        private CompiledRule(Rule rule, WorkoutProfile profile, String createdAt) {
+            String focus = profile.getFocusAreaLabel();
+            name = resolve(rule.name, focus);
+            description = resolve(rule.description, focus);
+            muscleGroups = resolve(rule.muscleGroups, focus);
+            durationMinutes = profile.getWorkoutTimePerDay();
+            fitnessLevel = profile.getFitnessLevelLabel();
+            workoutType = rule.workoutType;
+            focusArea = resolve(rule.workoutFocus, focus);
+            environment = profile.getEnvironment();
+            this.createdAt = createdAt;
+
+            double caloriesPerMinute = rule.caloriesPerMinute != null ? rule.caloriesPerMinute
+                    : WorkoutType.fromLabel(rule.workoutType).getCaloriesPerMinute();
+            double levelMultiplier = rule.levelMultipliers != null
+                    ? rule.levelMultipliers[profile.getFitnessLevel().ordinal()]
+                    : profile.getFitnessLevel().getCalorieMultiplier();
+            caloriesBurnEstimate = (int) (caloriesPerMinute * durationMinutes * levelMultiplier);
+
+            // The catalog names the known focus areas only, any other matches its "-" lines
+            String catalogFocus = FocusArea.fromLabel(focusArea).getLabel();
+            ExerciseCatalog catalog = ExerciseCatalog.getInstance();
+            exercises = catalog.find(rule.catalogBmi, environment, rule.catalogType, catalogFocus, fitnessLevel);
+            alternatives = catalog.findAlternatives(rule.catalogBmi, environment, rule.catalogType,
+                    catalogFocus, fitnessLevel);
+        }
+
+        /**
+         * Creates the workout for one day of a plan.
+         *
+         * @param intensity multiplier of the reps, and divisor of the rest, of every exercise
+         * @param variation random stream of the day, or null for exercises in catalog order
+         */
+        Workout createWorkout(int week, float progressionFactor, float intensity, PlanVariation variation) {
+            Workout workout = new Workout(name, description, muscleGroups, durationMinutes,
+                    fitnessLevel, workoutType, focusArea, environment);
+            workout.setCreatedAt(createdAt);
+            workout.setWeekNumber(week);
+            workout.setCaloriesBurnEstimate(caloriesBurnEstimate);
+
+            List<ExerciseCatalog.Entry> entries = variation != null
+                    ? ExerciseCatalog.vary(exercises, alternatives, variation) : exercises;
+            for (ExerciseCatalog.Entry entry : entries) {
+                Exercise exercise = entry.toExercise(fitnessLevel);
+                exercise.setProgressionFactor(progressionFactor);
+                if (intensity != 1f) {
+                    exercise.setRepsPerSet(Math.round(exercise.getRepsPerSet() * intensity));
+                    exercise.setRestBetweenSets(Math.round(exercise.getRestBetweenSets() / intensity));
+                }
+                workout.addExercise(exercise);
+            }
+            return workout;
+        }
+
+        private static String resolve(String text, String focus) {
+            if (text.indexOf('{') < 0) {
+                return text;
+            }
+            return text.replace(FOCUS_LOWER, String.valueOf(focus).toLowerCase())
+                    .replace(FOCUS, String.valueOf(focus));
+        }
+    }
+
+    /**
+     * The workouts of a training day and of a recovery day for one plan.
+     */
+    static final class CompiledRules {
+        private final List<CompiledRule> trainingDay;
+        private final List<CompiledRule> recoveryDay;
+
+        private CompiledRules(List<CompiledRule> trainingDay, List<CompiledRule> recoveryDay) {
+            this.trainingDay = trainingDay;
+            this.recoveryDay = recoveryDay;
+        }
+
+        List<CompiledRule> getTrainingDay() {
+            return trainingDay;
+        }
+
+        List<CompiledRule> getRecoveryDay() {
+            return recoveryDay;
+        }
+    }
+
+    static synchronized WorkoutRules getInstance() {
+        if (instance == null) {
+            InputStream in = WorkoutRules.class.getResourceAsStream(RESOURCE);
+            if (in == null) {
+                throw new IllegalStateException("Missing resource " + RESOURCE);
+            }
+            try {
+                instance = new WorkoutRules(in);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read " + RESOURCE, e);
+            }
+        }
+        return instance;
+    }
+
+    WorkoutRules(InputStream in) throws IOException {
+        List<Rule> loaded = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] columns = line.split("\t", -1);
+                if (columns.length != COLUMNS) {
+                    throw new IOException(RESOURCE + ":" + lineNumber + ": expected " + COLUMNS
+                            + " columns, found " + columns.length);
+                }
+                try {
+                    loaded.add(new Rule(columns));
+                } catch (IOException | NumberFormatException e) {
+                    throw new IOException(RESOURCE + ":" + lineNumber + ": " + e.getMessage());
+                }
+            }
+        }
+        rules = Collections.unmodifiableList(loaded);
+
+        for (Rule rule : rules) {
+            namedBmiCategories.addAll(LabelPatterns.values(rule.bmiCategory));
+            named(namedGoals, rule.bmiCategory).addAll(LabelPatterns.values(rule.fitnessGoal));
+            named(namedFocusAreas, rule.bmiCategory + "\t" + rule.fitnessGoal)
+                    .addAll(LabelPatterns.values(rule.focusArea));
+        }
+    }
+
+    /**
+     * Resolves the lines that apply to a profile.
+     *
+     * @param createdAt creation time given to every workout of the plan
+     */
+    CompiledRules compile(WorkoutProfile profile, int workoutsPerWeek, String createdAt) {
+        String bmiCategory = profile.getBmiCategory().getLabel();
+        String fitnessGoal = profile.getFitnessGoal().getLabel();
+        String focusArea = profile.getFocusArea().getLabel();
+
+        List<CompiledRule> trainingDay = new ArrayList<>();
+        List<CompiledRule> recoveryDay = new ArrayList<>();
+        for (Rule rule : rules) {
+            if (workoutsPerWeek < rule.minWorkoutsPerWeek
+                    || !LabelPatterns.matches(rule.bmiCategory, bmiCategory, namedBmiCategories)
+                    || !LabelPatterns.matches(rule.fitnessGoal, fitnessGoal, namedGoals.get(rule.bmiCategory))
+                    || !LabelPatterns.matches(rule.focusArea, focusArea,
+                            namedFocusAreas.get(rule.bmiCategory + "\t" + rule.fitnessGoal))) {
+                continue;
+            }
+            CompiledRule compiled = new CompiledRule(rule, profile, createdAt);
+            (rule.recovery ? recoveryDay : trainingDay).add(compiled);
+        }
+        return new CompiledRules(trainingDay, recoveryDay);
+    }
+
+    private static Set<String> named(Map<String, Set<String>> namedValues, String group) {
+        Set<String> values = namedValues.get(group);
+        if (values == null) {
+            values = new HashSet<>();
+            namedValues.put(group, values);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.flextrack_ianation.services;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.gms.tasks.OnCompleteListener;
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads and writes workout sessions in the Realtime Database.
+ *
+ * Every session is stored twice, in one multi-path update so both copies always match:
+ * under {@code workoutSessions/{sessionId}} as before, and under
+ * {@code userWorkoutSessions/{userId}/{sessionId}}. The progress screens query the
+ * per-user copy ordered by {@code startTimeMillis}, so they only download the sessions
+ * of the day, week or month on screen instead of the user's whole history. The
+ * database rules need {@code ".indexOn": "startTimeMillis"} on
+ * {@code userWorkoutSessions/$uid} for the range to be applied on the server.
+ *
+ * Sessions saved before the per-user copy existed are copied over once per user,
+ * see {@link #ensureIndexed}. Completing a session also updates the user's
+ * {@link ProgressRollups}.
+ */
+public final class WorkoutSessionStore {
+    private static final String TAG = "WorkoutSessionStore";
+
+    private static final String SESSIONS = "workoutSessions";
+    private static final String USER_SESSIONS = "userWorkoutSessions";
+    private static final String START_TIME = "startTimeMillis";
+    // users/{uid}/sessionIndexVersion, set once the user's older sessions are copied
+    // (version 1) and their progress rollups are built from them (version 3). Rollups
+    // built under version 2 may miss completions, so they are built again.
+    private static final String INDEX_VERSION = "sessionIndexVersion";
+    private static final int CURRENT_INDEX_VERSION = 3;
+
+    // Users whose sessions are known to be copied, so the flag is read once per process
+    private static final Set<String> indexedUsers = Collections.synchronizedSet(new HashSet<>());
+
+    private WorkoutSessionStore() {
+    }
+
+    /**
+     * Saves a new session in both places.
+     */
+    public static Task<Void> createSession(DatabaseReference root, String userId, String sessionId,
+                                           Map<String, Object> sessionData) {
+        Map<String, Object> update = new HashMap<>();
+        update.put(sessionPath(sessionId), sessionData);
+        update.put(userSessionPath(userId, sessionId), sessionData);
+        return root.updateChildren(update);
+    }
+
+    /**
+     * Changes fields of a session in both places.
+     *
+     * @param fields values by path relative to the session, e.g. "exerciseProgress/Squats"
+     */
+    public static Task<Void> updateSession(DatabaseReference root, String userId, String sessionId,
+                                           Map<String, Object> fields) {
+        return root.updateChildren(sessionUpdate(userId, sessionId, fields));
+    }
+
+    /**
+     * Marks a session completed in both places and adds it to the user's progress
+     * rollups, all in one update. A session that is already completed only gets the
+     * new field values, so it is never counted twice.
+     *
+     * @param fields values by path relative to the session, besides "completed"
+     */
+    public static void completeSession(DatabaseReference root, String userId, String sessionId,
+                                       Map<String, Object> fields, OnCompleteListener<Void> onComplete) {
+        Map<String, Object> completion = new HashMap<>(fields);
+        completion.put("completed", true);
+
+        // The rollups need the start time, duration and type saved with the session
+        root.child(USER_SESSIONS).child(userId).child(sessionId)
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                        Boolean completed = dataSnapshot.child("completed").getValue(Boolean.class);
+                        Long startTimeMillis = dataSnapshot.child(START_TIME).getValue(Long.class);
+                        Map<String, Object> update = sessionUpdate(userId, sessionId, completion);
+                        if ((completed == null || !completed) && startTimeMillis != null) {
+                            Integer minutes = dataSnapshot.child("durationMinutes").getValue(Integer.class);
+                            Object calories = completion.containsKey("caloriesBurned")
+                                    ? completion.get("caloriesBurned")
+                                    : dataSnapshot.child("caloriesBurned").getValue(Integer.class);
+                            ProgressRollups.addCompletedSession(update, userId, startTimeMillis,
+                                    minutes != null ? minutes : 0,
+                                    calories instanceof Number ? ((Number) calories).intValue() : 0,
+                                    dataSnapshot.child("workoutType").getValue(String.class));
+                        }
+                        root.updateChildren(update).addOnCompleteListener(onComplete);
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError databaseError) {
+                        Log.e(TAG, "Failed to read workout session: " + databaseError.getMessage());
+                        updateSession(root, userId, sessionId, completion).addOnCompleteListener(onComplete);
+                    }
+                });
+    }
+
+    /**
+     * Returns the sessions of a user that started in {@code [startMillis, endMillis)},
+     * ordered by start time.
+     */
+    public static Query sessionsBetween(DatabaseReference root, String userId, long startMillis, long endMillis) {
+        return root.child(USER_SESSIONS).child(userId)
+                .orderByChild(START_TIME)
+                .startAt(startMillis)
+                .endAt(endMillis - 1);
+    }
+
+    /**
+     * Runs {@code onReady} once every session of the user can be found with
+     * {@link #sessionsBetween} and is counted in the {@link ProgressRollups}. The first
+     * call for a user copies the sessions saved before the per-user copy existed and
+     * builds the rollups from them; later calls only check a flag.
+     */
+    public static void ensureIndexed(DatabaseReference root, String userId, Runnable onReady) {
+        if (indexedUsers.contains(userId)) {
+            onReady.run();
+            return;
+        }
+
+        root.child("users").child(userId).child(INDEX_VERSION)
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                        Integer version = dataSnapshot.getValue(Integer.class);
+                        if (version != null && version >= CURRENT_INDEX_VERSION) {
+                            indexedUsers.add(userId);
+                            onReady.run();
+                        } else {
+                            copyOlderSessions(root, userId, onReady);
+                        }
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError databaseError) {
+                        Log.e(TAG, "Failed to read session index version: " + databaseError.getMessage());
+                        onReady.run();
+                    }
+                });
+    }
+
+    private static void copyOlderSessions(DatabaseReference root, String userId, Runnable onReady) {
+        // One last download of the user's whole history, in the format it was saved in
+        root.child(SESSIONS).orderByChild("userId").equalTo(userId)
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                        Map<String, Object> update = new HashMap<>();
+                        for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
+                            update.put(userSessionPath(userId, snapshot.getKey()), snapshot.getValue());
+                        }
+                        ProgressRollups.addAllSessions(update, userId, dataSnapshot.getChildren());
+                        update.put("users/" + userId + "/" + INDEX_VERSION, CURRENT_INDEX_VERSION);
+
+                        root.updateChildren(update).addOnCompleteListener(task -> {
+                            if (task.isSuccessful()) {
+                                indexedUsers.add(userId);
+                            } else {
+                                Log.e(TAG, "Failed to copy workout sessions", task.getException());
+                            }
+                            onReady.run();
+                        });
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError databaseError) {
+                        Log.e(TAG, "Failed to load workout sessions: " + databaseError.getMessage());
+                        onReady.run();
+                    }
+                });
+    }
+
+    private static Map<String, Object> sessionUpdate(String userId, String sessionId, Map<String, Object> fields) {
+        Map<String, Object> update = new HashMap<>();
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            update.put(sessionPath(sessionId) + "/" + field.getKey(), field.getValue());
+            update.put(userSessionPath(userId, sessionId) + "/" + field.getKey(), field.getValue());
+        }
+        return update;
+    }
+
+    private static String sessionPath(String sessionId) {
+        return SESSIONS + "/" + sessionId;
+    }
+
+    private static String userSessionPath(String userId, String sessionId) {
+        return USER_SESSIONS + "/" + userId + "/" + sessionId;
+    }
+}
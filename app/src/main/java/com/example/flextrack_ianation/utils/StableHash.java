@@ -0,0 +1,22 @@
+package com.example.flextrack_ianation.utils;
+
+/**
+ * 64-bit FNV-1a over the UTF-16 chars of a string. Unlike {@link Object#hashCode} it is
+ * stable across devices and app versions, so its values can be stored or used as seeds.
+ */
+public final class StableHash {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private StableHash() {
+    }
+
+    public static long fnv1a64(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.flextrack_ianation.utils;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Shared date formatting for timestamps stored in Firebase and times shown in the UI.
+ *
+ * Creating a {@link SimpleDateFormat} is expensive and an instance is not thread-safe,
+ * so each thread keeps one formatter per pattern. The formatters are created again when
+ * the default locale or time zone changes, so the output always matches a new
+ * {@code SimpleDateFormat(pattern, Locale.getDefault())}.
+ */
+public final class TimeFormats {
+    // Creation and completion times of plans, workouts and workout history
+    public static final String TIMESTAMP = "yyyy-MM-dd HH:mm:ss";
+    // Day keys of sessions, step history and daily resets
+    public static final String DAY = "yyyy-MM-dd";
+    // Start time of a session in the session lists
+    public static final String SESSION_TIME = "EEEE, h:mm a";
+
+    private static final ThreadLocal<Formats> FORMATS = new ThreadLocal<>();
+
+    /**
+     * The formatters of one thread for one locale and time zone.
+     */
+    private static final class Formats {
+        private final Locale locale;
+        private final TimeZone timeZone;
+        private final Map<String, SimpleDateFormat> byPattern = new HashMap<>();
+        // Reused for formatting epoch millis, SimpleDateFormat does not keep it
+        private final Date date = new Date();
+
+        private Formats(Locale locale, TimeZone timeZone) {
+            this.locale = locale;
+            this.timeZone = timeZone;
+        }
+
+        private SimpleDateFormat get(String pattern) {
+            SimpleDateFormat format = byPattern.get(pattern);
+            if (format == null) {
+                format = new SimpleDateFormat(pattern, locale);
+                format.setTimeZone(timeZone);
+                byPattern.put(pattern, format);
+            }
+            return format;
+        }
+    }
+
+    private TimeFormats() {
+    }
+
+    public static String format(String pattern, long timeMillis) {
+        Formats formats = formats();
+        formats.date.setTime(timeMillis);
+        return formats.get(pattern).format(formats.date);
+    }
+
+    public static String format(String pattern, Date date) {
+        return formats().get(pattern).format(date);
+    }
+
+    public static Date parse(String pattern, String text) throws ParseException {
+        return formats().get(pattern).parse(text);
+    }
+
+    /**
+     * Returns the current time as a {@link #TIMESTAMP}.
+     */
+    public static String timestamp() {
+        return format(TIMESTAMP, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the {@link #DAY} key of a point in time.
+     */
+    public static String day(long timeMillis) {
+        return format(DAY, timeMillis);
+    }
+
+    private static Formats formats() {
+        Locale locale = Locale.getDefault();
+        TimeZone timeZone = TimeZone.getDefault();
+        Formats formats = FORMATS.get();
+        if (formats == null || !formats.locale.equals(locale) || !formats.timeZone.equals(timeZone)) {
+            formats = new Formats(locale, timeZone);
+            FORMATS.set(formats);
+        }
+        return formats;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.flextrack_ianation.models;
+
+import com.example.flextrack_ianation.services.WorkoutPlanGenerator;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compares {@link PlanCodec} with Java serialization for a long plan and a single
+ * workout: encode time, decode time and encoded size.
+ *
+ * Skipped unless run with {@code ./gradlew :app:testDebugUnitTest -Pbenchmark --tests '*Benchmark'}.
+ */
+public class PlanCodecBenchmark {
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+
+    /**
+     * Encodes or decodes one value.
+     */
+    private interface Codec {
+        byte[] encode(Object value) throws Exception;
+
+        Object decode(byte[] data) throws Exception;
+    }
+
+    private static final Codec SERIALIZABLE = new Codec() {
+        @Override
+        public byte[] encode(Object value) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(value);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public Object decode(byte[] data) throws Exception {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+                return in.readObject();
+            }
+        }
+    };
+
+    @Test
+    public void compareWithSerializable() throws Exception {
+        Assume.assumeTrue("Run with -Pbenchmark", Boolean.getBoolean("benchmark"));
+
+        // Obese beginners get the longest plans
+        WorkoutPlan lazyPlan = WorkoutPlanGenerator.generateWorkoutPlan("Obese", "Lose Weight",
+                "Beginner", "Full Body", "Gym", 45, 4);
+        WorkoutPlan plan = new WorkoutPlan();
+        plan.setName(lazyPlan.getName());
+        plan.setDurationWeeks(lazyPlan.getDurationWeeks());
+        plan.setWorkouts(new ArrayList<>(lazyPlan.getWorkouts()));
+        Workout workout = plan.getWorkouts().get(0);
+
+        Codec planCodec = new Codec() {
+            @Override
+            public byte[] encode(Object value) {
+                return PlanCodec.encode((WorkoutPlan) value);
+            }
+
+            @Override
+            public Object decode(byte[] data) throws IOException {
+                return PlanCodec.decodePlan(data);
+            }
+        };
+        Codec workoutCodec = new Codec() {
+            @Override
+            public byte[] encode(Object value) {
+                return PlanCodec.encode((Workout) value);
+            }
+
+            @Override
+            public Object decode(byte[] data) throws IOException {
+                return PlanCodec.decodeWorkout(data);
+            }
+        };
+
+        String planName = "plan (" + plan.getWorkouts().size() + " workouts)";
+        measure(planName + " Serializable", SERIALIZABLE, plan, MEASURED_ROUNDS / 10);
+        measure(planName + " PlanCodec", planCodec, plan, MEASURED_ROUNDS / 10);
+        measure("workout Serializable", SERIALIZABLE, workout, MEASURED_ROUNDS);
+        measure("workout PlanCodec", workoutCodec, workout, MEASURED_ROUNDS);
+    }
+
+    private static void measure(String name, Codec codec, Object value, int rounds) throws Exception {
+        List<Object> sink = new ArrayList<>();
+        byte[] data = codec.encode(value);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            data = codec.encode(value);
+            sink.add(codec.decode(data));
+            sink.clear();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            data = codec.encode(value);
+        }
+        long encodeNs = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            sink.add(codec.decode(data));
+            sink.clear();
+        }
+        long decodeNs = System.nanoTime() - start;
+
+        System.out.printf("%-40s %8d bytes  encode %8.1f us  decode %8.1f us%n", name, data.length,
+                encodeNs / 1e3 / rounds, decodeNs / 1e3 / rounds);
+        assertTrue(data.length > 0);
+    }
+}
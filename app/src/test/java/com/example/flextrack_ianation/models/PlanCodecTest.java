@@ -0,0 +1,202 @@
+package com.example.flextrack_ianation.models;
+
+import com.example.flextrack_ianation.services.WorkoutPlanGenerator;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round trips the workout models through {@link PlanCodec}.
+ */
+public class PlanCodecTest {
+
+    @Test
+    public void generatedPlan_roundTripsAllFields() throws IOException {
+        WorkoutPlan plan = WorkoutPlanGenerator.generateWorkoutPlan("Underweight", "Build Muscle",
+                "Intermediate", "Full Body", "Gym", 45, 5);
+        plan.setPlanId("plan-1");
+        plan.setActive(true);
+        plan.setVariationSeed(-42L);
+
+        WorkoutPlan decoded = PlanCodec.decodePlan(PlanCodec.encode(plan));
+
+        assertEquals(plan.getPlanId(), decoded.getPlanId());
+        assertEquals(plan.getName(), decoded.getName());
+        assertEquals(plan.getDescription(), decoded.getDescription());
+        assertEquals(plan.getTargetBmiCategory(), decoded.getTargetBmiCategory());
+        assertEquals(plan.getFitnessGoal(), decoded.getFitnessGoal());
+        assertEquals(plan.getFitnessLevel(), decoded.getFitnessLevel());
+        assertEquals(plan.getDurationWeeks(), decoded.getDurationWeeks());
+        assertEquals(plan.getWorkoutsPerWeek(), decoded.getWorkoutsPerWeek());
+        assertEquals(plan.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(plan.getEstimatedCaloriesBurn(), decoded.getEstimatedCaloriesBurn());
+        assertEquals(plan.getFocusArea(), decoded.getFocusArea());
+        assertEquals(plan.getWorkoutEnvironment(), decoded.getWorkoutEnvironment());
+        assertTrue(decoded.isActive());
+        assertEquals(plan.getVariationSeed(), decoded.getVariationSeed());
+
+        List<Workout> workouts = plan.getWorkouts();
+        List<Workout> decodedWorkouts = decoded.getWorkouts();
+        assertEquals(workouts.size(), decodedWorkouts.size());
+        for (int i = 0; i < workouts.size(); i++) {
+            assertWorkoutEquals(workouts.get(i), decodedWorkouts.get(i));
+        }
+    }
+
+    @Test
+    public void sharedTemplates_stayShared() throws IOException {
+        WorkoutPlan plan = WorkoutPlanGenerator.generateWorkoutPlan("Obese", "Lose Weight",
+                "Beginner", "Core", "Home", 30, 4);
+
+        List<Workout> decoded = PlanCodec.decodePlan(PlanCodec.encode(plan)).getWorkouts();
+
+        // Week 1 and week 2 use the same exercises
+        Exercise first = decoded.get(0).getExercises().get(0);
+        Exercise sameInWeek2 = null;
+        for (Workout workout : decoded) {
+            if (workout.getWeekNumber() == 2 && workout.getName().equals(decoded.get(0).getName())) {
+                sameInWeek2 = workout.getExercises().get(0);
+                break;
+            }
+        }
+        assertNotNull(sameInWeek2);
+        assertNotSame(first, sameInWeek2);
+        assertSame(first.getTemplate(), sameInWeek2.getTemplate());
+    }
+
+    @Test
+    public void workoutWithNullFields_roundTrips() throws IOException {
+        Workout workout = new Workout();
+        workout.setExercises(null);
+        workout.setCaloriesBurnEstimate(-20);
+
+        Workout decoded = PlanCodec.decodeWorkout(PlanCodec.encode(workout));
+
+        assertNull(decoded.getName());
+        assertNull(decoded.getExercises());
+        assertEquals(-20, decoded.getCaloriesBurnEstimate());
+    }
+
+    @Test
+    public void exercise_roundTrips() throws IOException {
+        Exercise exercise = new Exercise("Squat", "Bodyweight squat", "Legs", 3, 12, 60,
+                "None", "Beginner", "Strength", "https://example.com/squat");
+        exercise.setProgressionFactor(1.15f);
+
+        Exercise decoded = PlanCodec.decodeExercise(PlanCodec.encode(exercise));
+
+        assertEquals("Squat", decoded.getName());
+        assertEquals("Bodyweight squat", decoded.getDescription());
+        assertEquals("Legs", decoded.getMuscleGroup());
+        assertEquals(3, decoded.getSets());
+        assertEquals(12, decoded.getRepsPerSet());
+        assertEquals(60, decoded.getRestBetweenSets());
+        assertEquals("None", decoded.getEquipmentNeeded());
+        assertEquals("Beginner", decoded.getDifficultyLevel());
+        assertEquals("Strength", decoded.getExerciseType());
+        assertNull(decoded.getImageUrl());
+        assertEquals("https://example.com/squat", decoded.getVideoUrl());
+        assertEquals(1.15f, decoded.getProgressionFactor(), 0);
+    }
+
+    @Test
+    public void session_roundTrips() throws IOException {
+        WorkoutSession session = new WorkoutSession("w1", "Leg Day", "Lower Body",
+                1_700_000_000_000L, 40, 320, false, "user-1");
+        session.addExercise("Squat");
+        session.addExercise("Lunge");
+        session.completeExercise("Squat");
+
+        WorkoutSession decoded = PlanCodec.decodeSession(PlanCodec.encode(session));
+
+        assertEquals("w1", decoded.getWorkoutId());
+        assertEquals("Leg Day", decoded.getWorkoutName());
+        assertEquals("Lower Body", decoded.getWorkoutType());
+        assertEquals(1_700_000_000_000L, decoded.getStartTimeMillis());
+        assertEquals(40, decoded.getDurationMinutes());
+        assertEquals(320, decoded.getCaloriesBurned());
+        assertFalse(decoded.isCompleted());
+        assertEquals("user-1", decoded.getUserId());
+        assertEquals(session.getExerciseProgress(), decoded.getExerciseProgress());
+    }
+
+    @Test(expected = IOException.class)
+    public void otherVersion_isRejected() throws IOException {
+        byte[] data = PlanCodec.encode(new Workout());
+        data[4] = (byte) (PlanCodec.VERSION + 1);
+        PlanCodec.decodeWorkout(data);
+    }
+
+    @Test(expected = IOException.class)
+    public void otherModelKind_isRejected() throws IOException {
+        PlanCodec.decodePlan(PlanCodec.encode(new Workout()));
+    }
+
+    @Test(expected = IOException.class)
+    public void negativeStringReference_isRejected() throws IOException {
+        // The workout id refers to string 0xFFFFFFFF - 2
+        PlanCodec.decodeWorkout(workoutWith(0xFF, 0xFF, 0xFF, 0xFF, 0x0F));
+    }
+
+    @Test(expected = IOException.class)
+    public void hugeExerciseCount_runsOutOfInput() throws IOException {
+        // Fourteen null or zero fields, then 0x7FFFFFFE exercises and no more input
+        PlanCodec.decodeWorkout(workoutWith(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0xFF, 0xFF, 0xFF, 0xFF, 0x07));
+    }
+
+    @Test(expected = IOException.class)
+    public void negativeExerciseCount_isRejected() throws IOException {
+        PlanCodec.decodeWorkout(workoutWith(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0x80, 0x80, 0x80, 0x80, 0x08));
+    }
+
+    // The header of an encoded workout followed by the given bytes
+    private static byte[] workoutWith(int... body) {
+        byte[] data = Arrays.copyOf(PlanCodec.encode(new Workout()), 6 + body.length);
+        for (int i = 0; i < body.length; i++) {
+            data[6 + i] = (byte) body[i];
+        }
+        return data;
+    }
+
+    private static void assertWorkoutEquals(Workout expected, Workout actual) {
+        assertEquals(expected.getWorkoutId(), actual.getWorkoutId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getTargetMuscleGroups(), actual.getTargetMuscleGroups());
+        assertEquals(expected.getDurationMinutes(), actual.getDurationMinutes());
+        assertEquals(expected.getDifficultyLevel(), actual.getDifficultyLevel());
+        assertEquals(expected.getWorkoutType(), actual.getWorkoutType());
+        assertEquals(expected.getFocusArea(), actual.getFocusArea());
+        assertEquals(expected.getWorkoutEnvironment(), actual.getWorkoutEnvironment());
+        assertEquals(expected.getCaloriesBurnEstimate(), actual.getCaloriesBurnEstimate());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.isCompleted(), actual.isCompleted());
+        assertEquals(expected.getWeekNumber(), actual.getWeekNumber());
+        assertEquals(expected.getFitnessLevel(), actual.getFitnessLevel());
+
+        List<Exercise> exercises = expected.getExercises();
+        List<Exercise> actualExercises = actual.getExercises();
+        assertEquals(exercises.size(), actualExercises.size());
+        for (int i = 0; i < exercises.size(); i++) {
+            Exercise e = exercises.get(i);
+            Exercise a = actualExercises.get(i);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getDescription(), a.getDescription());
+            assertEquals(e.getMuscleGroup(), a.getMuscleGroup());
+            assertEquals(e.getSets(), a.getSets());
+            assertEquals(e.getRepsPerSet(), a.getRepsPerSet());
+            assertEquals(e.getRestBetweenSets(), a.getRestBetweenSets());
+            assertEquals(e.getEquipmentNeeded(), a.getEquipmentNeeded());
+            assertEquals(e.getDifficultyLevel(), a.getDifficultyLevel());
+            assertEquals(e.getExerciseType(), a.getExerciseType());
+            assertEquals(e.getProgressionFactor(), a.getProgressionFactor(), 0);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.flextrack_ianation.services;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs {@link PeakValleyStepDetector} against synthetic accelerometer traces.
+ */
+public class PeakValleyStepDetectorTest {
+    private static final float GRAVITY = 9.81f;
+    private static final long SAMPLE_INTERVAL_NS = 20_000_000L; // 50 Hz
+
+    @Test
+    public void walkingTrace_countsOneStepPerCycle() {
+        // 2 steps per second for 10 seconds
+        int steps = countSteps(new PeakValleyStepDetector(), 2.0, 3.0f, 0.2f, 10);
+        assertTrue("Expected about 20 steps but got " + steps, Math.abs(steps - 20) <= 1);
+    }
+
+    @Test
+    public void lightWalkingTrace_isStillCounted() {
+        int steps = countSteps(new PeakValleyStepDetector(), 1.5, 1.5f, 0.1f, 10);
+        assertTrue("Expected about 15 steps but got " + steps, Math.abs(steps - 15) <= 1);
+    }
+
+    @Test
+    public void stationaryTrace_countsNoSteps() {
+        int steps = countSteps(new PeakValleyStepDetector(), 0, 0f, 0.3f, 10);
+        assertEquals(0, steps);
+    }
+
+    @Test
+    public void vibrationTrace_isFilteredOut() {
+        // 15 Hz vibration, e.g. phone lying in a moving car
+        int steps = countSteps(new PeakValleyStepDetector(), 15.0, 2.0f, 0.1f, 10);
+        assertEquals(0, steps);
+    }
+
+    @Test
+    public void outOfOrderSamples_areIgnored() {
+        PeakValleyStepDetector detector = new PeakValleyStepDetector();
+        assertFalse(detector.onSample(1_000L, 0f, 0f, GRAVITY));
+        assertFalse(detector.onSample(1_000L, 0f, 0f, GRAVITY + 5f));
+        assertFalse(detector.onSample(500L, 0f, 0f, GRAVITY - 5f));
+    }
+
+    @Test
+    public void reset_clearsState() {
+        PeakValleyStepDetector detector = new PeakValleyStepDetector();
+        int first = countSteps(detector, 2.0, 3.0f, 0.2f, 5);
+        detector.reset();
+        int second = countSteps(detector, 2.0, 3.0f, 0.2f, 5);
+        assertEquals(first, second);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooSmallCapacity_isRejected() {
+        new PeakValleyStepDetector(2);
+    }
+
+    /**
+     * Feeds a vertical sine wave on top of gravity with some seeded noise and
+     * returns how many steps were detected.
+     */
+    private static int countSteps(StepDetector detector, double frequencyHz, float amplitude,
+                                  float noise, int seconds) {
+        Random random = new Random(42);
+        int samples = (int) (seconds * 1_000_000_000L / SAMPLE_INTERVAL_NS);
+        int steps = 0;
+
+        for (int i = 0; i < samples; i++) {
+            long timestampNs = i * SAMPLE_INTERVAL_NS;
+            double t = timestampNs / 1e9;
+            float vertical = GRAVITY + amplitude * (float) Math.sin(2 * Math.PI * frequencyHz * t);
+            float x = noise * (float) random.nextGaussian();
+            float y = noise * (float) random.nextGaussian();
+            float z = vertical + noise * (float) random.nextGaussian();
+
+            if (detector.onSample(timestampNs, x, y, z)) {
+                steps++;
+            }
+        }
+        return steps;
+    }
+}
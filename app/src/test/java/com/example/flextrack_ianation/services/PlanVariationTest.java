@@ -0,0 +1,101 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.models.Exercise;
+import com.example.flextrack_ianation.models.Workout;
+import com.example.flextrack_ianation.models.WorkoutPlan;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that seeded plans vary their exercises and can be rebuilt from the seed.
+ */
+public class PlanVariationTest {
+
+    @Test
+    public void sameSeed_givesSamePlan() {
+        long seed = PlanVariation.planSeed("user-1", "plan-1");
+
+        List<String> first = exerciseNames(generate(seed).getWorkouts());
+        List<String> second = exerciseNames(generate(seed).getWorkouts());
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void weeks_doNotDependOnBuildOrder() {
+        long seed = PlanVariation.planSeed("user-1", "plan-1");
+        WorkoutPlan inOrder = generate(seed);
+        WorkoutPlan backwards = generate(seed);
+
+        List<List<String>> weeksBackwards = new ArrayList<>();
+        for (int week = backwards.getDurationWeeks(); week >= 1; week--) {
+            weeksBackwards.add(0, exerciseNames(backwards.getWorkoutsForWeek(week)));
+        }
+        for (int week = 1; week <= inOrder.getDurationWeeks(); week++) {
+            assertEquals(exerciseNames(inOrder.getWorkoutsForWeek(week)), weeksBackwards.get(week - 1));
+        }
+    }
+
+    @Test
+    public void seededPlan_variesBetweenWeeks() {
+        WorkoutPlan plan = generate(PlanVariation.planSeed("user-1", "plan-1"));
+
+        List<String> week1 = exerciseNames(plan.getWorkoutsForWeek(1));
+        boolean varied = false;
+        for (int week = 2; week <= plan.getDurationWeeks(); week++) {
+            varied |= !week1.equals(exerciseNames(plan.getWorkoutsForWeek(week)));
+        }
+        assertTrue(varied);
+    }
+
+    @Test
+    public void otherPlanId_givesOtherSeed() {
+        assertNotEquals(PlanVariation.planSeed("user-1", "plan-1"), PlanVariation.planSeed("user-1", "plan-2"));
+        assertNotEquals(PlanVariation.planSeed("user-1", "plan-1"), PlanVariation.planSeed("user-2", "plan-1"));
+    }
+
+    @Test
+    public void seededPlan_keepsWorkoutsAndExerciseCounts() {
+        long seed = PlanVariation.planSeed("user-1", "plan-1");
+        List<Workout> unseeded = generate(0).getWorkouts();
+        WorkoutPlan seeded = generate(seed);
+
+        assertEquals(seed, seeded.getVariationSeed());
+        List<Workout> seededWorkouts = seeded.getWorkouts();
+        assertEquals(unseeded.size(), seededWorkouts.size());
+        for (int i = 0; i < unseeded.size(); i++) {
+            assertEquals(unseeded.get(i).getName(), seededWorkouts.get(i).getName());
+            assertEquals(unseeded.get(i).getExercises().size(), seededWorkouts.get(i).getExercises().size());
+        }
+    }
+
+    @Test
+    public void nextInt_staysInBounds() {
+        PlanVariation variation = PlanVariation.forDay(PlanVariation.planSeed("user-1", "plan-1"), 1, 1);
+        for (int i = 0; i < 10_000; i++) {
+            int value = variation.nextInt(7);
+            assertTrue(value >= 0 && value < 7);
+        }
+    }
+
+    private static WorkoutPlan generate(long seed) {
+        return WorkoutPlanGenerator.generateWorkoutPlan("Normal weight", "Build Muscle",
+                "Advanced", "Upper Body", "Gym", 45, 5, seed);
+    }
+
+    private static List<String> exerciseNames(List<Workout> workouts) {
+        List<String> names = new ArrayList<>();
+        for (Workout workout : workouts) {
+            for (Exercise exercise : workout.getExercises()) {
+                names.add(exercise.getName());
+            }
+            names.add("|");
+        }
+        return names;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.models.WorkoutSession;
+import com.example.flextrack_ianation.utils.TimeFormats;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the ranges and totals served from the in-memory session index.
+ */
+public class ProgressIndexTest {
+
+    @Test
+    public void between_returnsSessionsOfRangeInStartOrder() {
+        ProgressIndex index = new ProgressIndex();
+        index.replace(0, 100, Arrays.asList(session("c", 30), session("a", 10), session("b", 20)));
+
+        assertEquals(Arrays.asList("a", "b"), ids(index.between(10, 30)));
+        assertEquals(Collections.emptyList(), ids(index.between(40, 100)));
+        assertEquals(Collections.emptyList(), ids(index.between(30, 10)));
+    }
+
+    @Test
+    public void replace_onlyChangesItsRange() {
+        ProgressIndex index = new ProgressIndex();
+        index.replace(0, 100, Arrays.asList(session("a", 10), session("b", 50), session("c", 90)));
+
+        // "x" lies outside the replaced range and is ignored
+        index.replace(40, 60, Arrays.asList(session("d", 45), session("x", 70)));
+
+        assertEquals(Arrays.asList("a", "d", "c"), ids(index.between(0, 100)));
+    }
+
+    @Test
+    public void summarize_addsUpCompletedSessionsByDayAndType() {
+        Calendar day = Calendar.getInstance();
+        day.set(2024, Calendar.MARCH, 4, 8, 0, 0);
+        long monday = day.getTimeInMillis();
+        day.add(Calendar.DAY_OF_MONTH, 1);
+        long tuesday = day.getTimeInMillis();
+
+        ProgressIndex index = new ProgressIndex();
+        index.replace(Long.MIN_VALUE, Long.MAX_VALUE, Arrays.asList(
+                new WorkoutSession("a", "Run", "Cardio", monday, 30, 300, true, "user-1"),
+                new WorkoutSession("b", "Lift", "Strength", monday + 3600000, 20, 150, true, "user-1"),
+                new WorkoutSession("c", "Run", "Cardio", tuesday, 40, 400, true, "user-1"),
+                new WorkoutSession("d", "Yoga", "Flexibility", tuesday + 60000, 60, 100, false, "user-1")));
+
+        ProgressSummary total = index.summarize(monday, tuesday + 3600000);
+
+        assertEquals(90, total.getMinutes());
+        assertEquals(850, total.getCalories());
+        assertEquals(3, total.getWorkouts());
+        assertEquals(Integer.valueOf(50), total.getMinutesByDay().get(TimeFormats.day(monday)));
+        assertEquals(Integer.valueOf(40), total.getMinutesByDay().get(TimeFormats.day(tuesday)));
+        assertEquals(Integer.valueOf(2), total.getWorkoutsByType().get("Cardio"));
+        assertNull(total.getWorkoutsByType().get("Flexibility"));
+
+        assertEquals(0, index.summarize(tuesday + 3600000, Long.MAX_VALUE).getWorkouts());
+    }
+
+    private static WorkoutSession session(String id, long startTimeMillis) {
+        return new WorkoutSession(id, "Workout", "Cardio", startTimeMillis, 30, 100, true, "user-1");
+    }
+
+    private static List<String> ids(List<WorkoutSession> sessions) {
+        List<String> ids = new ArrayList<>();
+        for (WorkoutSession session : sessions) {
+            ids.add(session.getWorkoutId());
+        }
+        return ids;
+    }
+}
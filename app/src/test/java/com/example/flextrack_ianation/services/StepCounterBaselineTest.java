@@ -0,0 +1,313 @@
+package com.example.flextrack_ianation.services;
+
+import android.content.SharedPreferences;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * Feeds {@link StepCounterBaseline} counter readings around reboots, sensor resets
+ * and midnights.
+ */
+public class StepCounterBaselineTest {
+    private static final long MINUTE_MS = 60 * 1000L;
+    private static final long HOUR_MS = 60 * MINUTE_MS;
+
+    private TimeZone defaultTimeZone;
+    private MapPreferences prefs;
+    private List<DaySteps> days;
+    private StepCounterBaseline.DayStepsCallback callback;
+    private long start;
+
+    @Before
+    public void setUp() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        prefs = new MapPreferences();
+        days = new ArrayList<>();
+        callback = (timeInDayMillis, steps, isToday) -> days.add(new DaySteps(timeInDayMillis, steps, isToday));
+        start = localTime(2024, Calendar.JUNE, 3, 12, 0);
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    public void firstReading_countsNoSteps() {
+        StepCounterBaseline baseline = new StepCounterBaseline(prefs);
+
+        assertEquals(0, baseline.onCounterValue(5000, start, 10 * HOUR_MS, 3, callback));
+        assertTrue(days.isEmpty());
+    }
+
+    @Test
+    public void sameBoot_countsTheDifference() {
+        StepCounterBaseline baseline = new StepCounterBaseline(prefs);
+        baseline.onCounterValue(1000, start, 10 * HOUR_MS, 3, callback);
+
+        assertEquals(250, baseline.onCounterValue(1250, start + 30 * MINUTE_MS,
+                10 * HOUR_MS + 30 * MINUTE_MS, 3, callback));
+        assertEquals(1, days.size());
+        assertEquals(250, days.get(0).steps);
+        assertTrue(days.get(0).isToday);
+    }
+
+    @Test
+    public void changedBootCount_countsEverythingSinceBoot() {
+        StepCounterBaseline baseline = new StepCounterBaseline(prefs);
+        baseline.onCounterValue(1000, start, 10 * HOUR_MS, 3, callback);
+
+        // Higher than before, but the counter restarted at boot
+        assertEquals(1200, baseline.onCounterValue(1200, start + 2 * HOUR_MS, HOUR_MS, 4, callback));
+    }
+
+    @Test
+    public void unknownBootCount_elapsedTimeGoingBackwardsIsAReboot() {
+        StepCounterBaseline baseline = new StepCounterBaseline(prefs);
+        baseline.onCounterValue(1000, start, 10 * HOUR_MS, -1, callback);
+
+        assertEquals(1200, baseline.onCounterValue(1200, start + 2 * HOUR_MS, HOUR_MS, -1, callback));
+    }
+
+    @Test
+    public void unknownBootCount_elapsedTimeGoingForwardIsTheSameBoot() {
+        StepCounterBaseline baseline = new StepCounterBaseline(prefs);
+        baseline.onCounterValue(1000, start, 10 * HOUR_MS, -1, callback);
+
+        assertEquals(200, baseline.onCounterValue(1200, start + 2 * HOUR_MS, 12 * HOUR_MS, -1, callback));
+    }
+
+    @Test
+    public void decreasingCounter_countsTheValueSinceTheReset() {
+        StepCounterBaseline baseline = new StepCounterBaseline(prefs);
+        baseline.onCounterValue(1000, start, 10 * HOUR_MS, 3, callback);
+
+        assertEquals(40, baseline.onCounterValue(40, start + HOUR_MS, 11 * HOUR_MS, 3, callback));
+    }
+
+    @Test
+    public void savedBaseline_isUsedAfterARestart() {
+        StepCounterBaseline baseline = new StepCounterBaseline(prefs);
+        baseline.onCounterValue(1000, start, 10 * HOUR_MS, 3, callback);
+        SharedPreferences.Editor editor = prefs.edit();
+        baseline.save(editor);
+        editor.apply();
+
+        StepCounterBaseline restored = new StepCounterBaseline(prefs);
+        assertEquals(300, restored.onCounterValue(1300, start + HOUR_MS, 11 * HOUR_MS, 3, callback));
+    }
+
+    @Test
+    public void stepsOverSeveralMidnights_addUpToTheTotal() {
+        // 8 hours on the first day, 24 on the second and 8 on the third
+        long from = localTime(2024, Calendar.JUNE, 3, 16, 0);
+        long to = localTime(2024, Calendar.JUNE, 5, 8, 0);
+
+        StepCounterBaseline.attribute(7, from, to, callback);
+
+        assertEquals(3, days.size());
+        assertEquals(1, days.get(0).steps);
+        assertEquals(4, days.get(1).steps);
+        // The rounding leftovers go to the last day
+        assertEquals(2, days.get(2).steps);
+        assertTrue(days.get(2).isToday);
+        assertEquals(7, totalSteps());
+    }
+
+    @Test
+    public void stepsOverADaylightSavingDay_followTheShorterDay() {
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        // Clocks go forward on March 10, so that day has 23 hours
+        long from = localTime(2024, Calendar.MARCH, 9, 18, 0);
+        long to = localTime(2024, Calendar.MARCH, 11, 6, 0);
+
+        StepCounterBaseline.attribute(3500, from, to, callback);
+
+        assertEquals(3, days.size());
+        assertEquals(600, days.get(0).steps);
+        assertEquals(2300, days.get(1).steps);
+        assertEquals(600, days.get(2).steps);
+        assertEquals(3500, totalSteps());
+
+        assertEquals(9, dayOfMonth(days.get(0).timeInDayMillis));
+        assertEquals(10, dayOfMonth(days.get(1).timeInDayMillis));
+        assertEquals(11, dayOfMonth(days.get(2).timeInDayMillis));
+        assertFalse(days.get(0).isToday);
+        assertFalse(days.get(1).isToday);
+        assertTrue(days.get(2).isToday);
+    }
+
+    private int totalSteps() {
+        int total = 0;
+        for (DaySteps day : days) {
+            total += day.steps;
+        }
+        return total;
+    }
+
+    private static long localTime(int year, int month, int day, int hour, int minute) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month, day, hour, minute);
+        return calendar.getTimeInMillis();
+    }
+
+    private static int dayOfMonth(long time) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(time);
+        return calendar.get(Calendar.DAY_OF_MONTH);
+    }
+
+    private static final class DaySteps {
+        final long timeInDayMillis;
+        final int steps;
+        final boolean isToday;
+
+        DaySteps(long timeInDayMillis, int steps, boolean isToday) {
+            this.timeInDayMillis = timeInDayMillis;
+            this.steps = steps;
+            this.isToday = isToday;
+        }
+    }
+
+    // In-memory preferences, enough for the baseline to load and save itself
+    private static final class MapPreferences implements SharedPreferences {
+        private final Map<String, Object> values = new HashMap<>();
+
+        @Override
+        public Map<String, ?> getAll() {
+            return new HashMap<>(values);
+        }
+
+        @Override
+        public String getString(String key, String defValue) {
+            return values.containsKey(key) ? (String) values.get(key) : defValue;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Set<String> getStringSet(String key, Set<String> defValues) {
+            return values.containsKey(key) ? (Set<String>) values.get(key) : defValues;
+        }
+
+        @Override
+        public int getInt(String key, int defValue) {
+            return values.containsKey(key) ? (Integer) values.get(key) : defValue;
+        }
+
+        @Override
+        public long getLong(String key, long defValue) {
+            return values.containsKey(key) ? (Long) values.get(key) : defValue;
+        }
+
+        @Override
+        public float getFloat(String key, float defValue) {
+            return values.containsKey(key) ? (Float) values.get(key) : defValue;
+        }
+
+        @Override
+        public boolean getBoolean(String key, boolean defValue) {
+            return values.containsKey(key) ? (Boolean) values.get(key) : defValue;
+        }
+
+        @Override
+        public boolean contains(String key) {
+            return values.containsKey(key);
+        }
+
+        @Override
+        public Editor edit() {
+            return new MapEditor();
+        }
+
+        @Override
+        public void registerOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {
+        }
+
+        @Override
+        public void unregisterOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {
+        }
+
+        private final class MapEditor implements Editor {
+            private final Map<String, Object> changes = new HashMap<>();
+
+            @Override
+            public Editor putString(String key, String value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor putStringSet(String key, Set<String> values) {
+                changes.put(key, values);
+                return this;
+            }
+
+            @Override
+            public Editor putInt(String key, int value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor putLong(String key, long value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor putFloat(String key, float value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor putBoolean(String key, boolean value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor remove(String key) {
+                changes.put(key, null);
+                return this;
+            }
+
+            @Override
+            public Editor clear() {
+                values.clear();
+                return this;
+            }
+
+            @Override
+            public boolean commit() {
+                apply();
+                return true;
+            }
+
+            @Override
+            public void apply() {
+                for (Map.Entry<String, Object> change : changes.entrySet()) {
+                    if (change.getValue() == null) {
+                        values.remove(change.getKey());
+                    } else {
+                        values.put(change.getKey(), change.getValue());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.flextrack_ianation.services;
+
+import com.example.flextrack_ianation.models.Workout;
+import com.example.flextrack_ianation.models.WorkoutPlan;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Measures {@link WorkoutPlanGenerator#generateWorkoutPlan} over every combination of
+ * BMI category, goal, level, focus area, environment and days per week.
+ *
+ * Reports throughput, bytes allocated per plan and serialized plan size. Skipped
+ * unless run with {@code ./gradlew :app:testDebugUnitTest -Pbenchmark --tests '*Benchmark'}.
+ */
+public class WorkoutPlanGeneratorBenchmark {
+    private static final String[] BMI_CATEGORIES = {"Underweight", "Normal weight", "Overweight", "Obese"};
+    private static final String[] GOALS = {"Lose Weight", "Build Muscle", "Improve Endurance",
+            "General Fitness", "Weight Loss", "Muscle Gain", "Endurance"};
+    private static final String[] LEVELS = {"Beginner", "Intermediate", "Advanced"};
+    private static final String[] FOCUS_AREAS = {"Full Body", "Upper Body", "Lower Body", "Core", "Cardio"};
+    private static final String[] ENVIRONMENTS = {"Home", "Gym", "Outdoor"};
+    private static final int[] DAYS_PER_WEEK = {2, 3, 4, 5, 6, 7};
+    private static final int WORKOUT_TIME_MINUTES = 30;
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * One profile of the matrix.
+     */
+    private static class Profile {
+        final String bmiCategory;
+        final String fitnessGoal;
+        final String fitnessLevel;
+        final String focusArea;
+        final String environment;
+        final int daysPerWeek;
+
+        Profile(String bmiCategory, String fitnessGoal, String fitnessLevel, String focusArea,
+                String environment, int daysPerWeek) {
+            this.bmiCategory = bmiCategory;
+            this.fitnessGoal = fitnessGoal;
+            this.fitnessLevel = fitnessLevel;
+            this.focusArea = focusArea;
+            this.environment = environment;
+            this.daysPerWeek = daysPerWeek;
+        }
+
+        WorkoutPlan generate() {
+            return WorkoutPlanGenerator.generateWorkoutPlan(bmiCategory, fitnessGoal, fitnessLevel,
+                    focusArea, environment, WORKOUT_TIME_MINUTES, daysPerWeek);
+        }
+    }
+
+    /**
+     * Work done for one plan; returns a value so the JIT cannot drop the call.
+     */
+    private interface PlanTask {
+        int run(Profile profile);
+    }
+
+    @Test
+    public void generatePlans() throws IOException {
+        Assume.assumeTrue("Run with -Pbenchmark", Boolean.getBoolean("benchmark"));
+        List<Profile> profiles = allProfiles();
+
+        // Plan creation only, later weeks are built on access
+        measure("generate", profiles, profile -> profile.generate().getWorkoutsForWeek(1).size());
+
+        // Creation plus every week, as done when the plan is uploaded
+        measure("generate + all weeks", profiles, profile -> profile.generate().getWorkouts().size());
+
+        reportPlanSizes(profiles);
+    }
+
+    private static List<Profile> allProfiles() {
+        List<Profile> profiles = new ArrayList<>();
+        for (String bmiCategory : BMI_CATEGORIES) {
+            for (String goal : GOALS) {
+                for (String level : LEVELS) {
+                    for (String focusArea : FOCUS_AREAS) {
+                        for (String environment : ENVIRONMENTS) {
+                            for (int days : DAYS_PER_WEEK) {
+                                profiles.add(new Profile(bmiCategory, goal, level, focusArea, environment, days));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return profiles;
+    }
+
+    private static void measure(String name, List<Profile> profiles, PlanTask task) {
+        int blackhole = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (Profile profile : profiles) {
+                blackhole += task.run(profile);
+            }
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (Profile profile : profiles) {
+                blackhole += task.run(profile);
+            }
+        }
+        long elapsedNs = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        int plans = profiles.size() * MEASURED_ROUNDS;
+        System.out.printf("%-22s %9.0f plans/s  %8.1f us/plan", name,
+                plans * 1e9 / elapsedNs, elapsedNs / 1e3 / plans);
+        if (allocatedBefore >= 0) {
+            System.out.printf("  %8.1f KB allocated/plan", allocated / 1024.0 / plans);
+        }
+        System.out.println();
+        assertTrue(blackhole > 0);
+    }
+
+    private static void reportPlanSizes(List<Profile> profiles) throws IOException {
+        long lazyTotal = 0;
+        long fullTotal = 0;
+        int fullMax = 0;
+        for (Profile profile : profiles) {
+            WorkoutPlan plan = profile.generate();
+            lazyTotal += serializedSize(plan);
+            int fullSize = serializedSize(new ArrayList<Workout>(plan.getWorkouts()));
+            fullTotal += fullSize;
+            fullMax = Math.max(fullMax, fullSize);
+        }
+        System.out.printf("plan size (lazy)       %8.1f KB avg%n", lazyTotal / 1024.0 / profiles.size());
+        System.out.printf("plan size (all weeks)  %8.1f KB avg  %8.1f KB max%n",
+                fullTotal / 1024.0 / profiles.size(), fullMax / 1024.0);
+    }
+
+    private static int serializedSize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+
+    // Bytes allocated by this thread so far, or -1 if the JVM cannot tell
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
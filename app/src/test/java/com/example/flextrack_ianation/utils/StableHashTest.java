@@ -0,0 +1,19 @@
+package com.example.flextrack_ianation.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks {@link StableHash} against published FNV-1a test vectors, since stored
+ * profile hashes and plan seeds depend on its values.
+ */
+public class StableHashTest {
+
+    @Test
+    public void fnv1a64_matchesReferenceValues() {
+        assertEquals(0xcbf29ce484222325L, StableHash.fnv1a64(""));
+        assertEquals(0xaf63dc4c8601ec8cL, StableHash.fnv1a64("a"));
+        assertEquals(0x85944171f73967e8L, StableHash.fnv1a64("foobar"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.flextrack_ianation.utils;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compares a new {@link SimpleDateFormat} per call, as the generators and the session
+ * list did, with {@link TimeFormats}: time and bytes allocated per formatted value.
+ *
+ * Skipped unless run with {@code ./gradlew :app:testDebugUnitTest -Pbenchmark --tests '*Benchmark'}.
+ */
+public class TimeFormatsBenchmark {
+    private static final int WARMUP_ROUNDS = 50_000;
+    private static final int MEASURED_ROUNDS = 200_000;
+    // Spread over a few days so the formatted values differ
+    private static final long START_MILLIS = 1_700_000_000_000L;
+    private static final long STEP_MILLIS = 97_531L;
+
+    /**
+     * Formats one point in time.
+     */
+    private interface Formatter {
+        String format(long timeMillis);
+    }
+
+    @Test
+    public void compareWithNewSimpleDateFormat() {
+        Assume.assumeTrue("Run with -Pbenchmark", Boolean.getBoolean("benchmark"));
+
+        for (String pattern : new String[]{TimeFormats.TIMESTAMP, TimeFormats.SESSION_TIME}) {
+            measure(pattern + " new SimpleDateFormat",
+                    timeMillis -> new SimpleDateFormat(pattern, Locale.getDefault()).format(new Date(timeMillis)));
+            measure(pattern + " TimeFormats", timeMillis -> TimeFormats.format(pattern, timeMillis));
+        }
+    }
+
+    private static void measure(String name, Formatter formatter) {
+        int blackhole = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            blackhole += formatter.format(START_MILLIS + i * STEP_MILLIS).length();
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            blackhole += formatter.format(START_MILLIS + i * STEP_MILLIS).length();
+        }
+        long elapsedNs = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("%-40s %8.3f us/call", name, elapsedNs / 1e3 / MEASURED_ROUNDS);
+        if (allocatedBefore >= 0) {
+            System.out.printf("  %8.0f bytes allocated/call", (double) allocated / MEASURED_ROUNDS);
+        }
+        System.out.println();
+        assertTrue(blackhole > 0);
+    }
+
+    // Bytes allocated by this thread so far, or -1 if the JVM cannot tell
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.flextrack_ianation.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the shared formatters give the same text as a new SimpleDateFormat.
+ */
+public class TimeFormatsTest {
+    private static final long TIME_MILLIS = 1_700_000_000_000L;
+
+    private Locale defaultLocale;
+    private TimeZone defaultTimeZone;
+
+    @Before
+    public void rememberDefaults() {
+        defaultLocale = Locale.getDefault();
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    @After
+    public void restoreDefaults() {
+        Locale.setDefault(defaultLocale);
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    public void format_matchesSimpleDateFormat() {
+        for (String pattern : new String[]{TimeFormats.TIMESTAMP, TimeFormats.DAY, TimeFormats.SESSION_TIME}) {
+            assertEquals(expected(pattern, TIME_MILLIS), TimeFormats.format(pattern, TIME_MILLIS));
+            assertEquals(expected(pattern, TIME_MILLIS), TimeFormats.format(pattern, new Date(TIME_MILLIS)));
+        }
+    }
+
+    @Test
+    public void format_followsDefaultLocaleAndTimeZone() {
+        Locale.setDefault(Locale.US);
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        assertEquals("Tuesday, 10:13 PM", TimeFormats.format(TimeFormats.SESSION_TIME, TIME_MILLIS));
+
+        Locale.setDefault(Locale.GERMANY);
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Manila"));
+        assertEquals(expected(TimeFormats.SESSION_TIME, TIME_MILLIS),
+                TimeFormats.format(TimeFormats.SESSION_TIME, TIME_MILLIS));
+        assertEquals("2023-11-15", TimeFormats.day(TIME_MILLIS));
+    }
+
+    @Test
+    public void parse_readsDayKeys() throws Exception {
+        Date parsed = TimeFormats.parse(TimeFormats.DAY, "2024-02-29");
+        assertEquals("2024-02-29", TimeFormats.format(TimeFormats.DAY, parsed));
+    }
+
+    @Test
+    public void format_isThreadSafe() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                final long offset = thread * 3_600_000L;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        long timeMillis = TIME_MILLIS + offset + i * 61_000L;
+                        if (!expected(TimeFormats.TIMESTAMP, timeMillis)
+                                .equals(TimeFormats.format(TimeFormats.TIMESTAMP, timeMillis))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static String expected(String pattern, long timeMillis) {
+        return new SimpleDateFormat(pattern, Locale.getDefault()).format(new Date(timeMillis));
+    }
+}